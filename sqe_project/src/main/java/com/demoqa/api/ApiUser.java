@@ -0,0 +1,40 @@
+package com.demoqa.api;
+
+/**
+ * BookStore account created through the API, with the token used to authorize its requests.
+ */
+public final class ApiUser {
+
+    private final String userId;
+    private final String userName;
+    private final String password;
+    private final String token;
+
+    public ApiUser(String userId, String userName, String password, String token) {
+        this.userId = userId;
+        this.userName = userName;
+        this.password = password;
+        this.token = token;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    @Override
+    public String toString() {
+        return userName + " (" + userId + ")";
+    }
+}
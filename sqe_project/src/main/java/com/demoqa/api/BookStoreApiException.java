@@ -0,0 +1,30 @@
+package com.demoqa.api;
+
+/**
+ * Error response of the BookStore API, e.g. 406 with code 1204 "User exists!".
+ */
+public class BookStoreApiException extends RuntimeException {
+
+    private final int status;
+    private final String code;
+
+    public BookStoreApiException(int status, String code, String message) {
+        super(status + (code.isEmpty() ? "" : " [" + code + "]") + ": " + message);
+        this.status = status;
+        this.code = code;
+    }
+
+    /**
+     * @return HTTP status code
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * @return API error code (e.g. "1210"), empty if the response had none
+     */
+    public String getCode() {
+        return code;
+    }
+}
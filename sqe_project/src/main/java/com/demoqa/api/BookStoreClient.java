@@ -0,0 +1,317 @@
+package com.demoqa.api;
+
+import com.demoqa.config.ConfigurationManager;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Client of the DemoQA BookStore REST API (Account/v1, BookStore/v1) for test setup and teardown,
+ * so users and collections do not have to be created through the UI.
+ * <p>
+ * All clients share one JDK HttpClient, so connections are kept alive and reused across requests
+ * and scenarios. Requests are asynchronous; batches (e.g. creating many users with their books)
+ * run in parallel, at most api.max.concurrency at a time.
+ */
+public class BookStoreClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookStoreClient.class);
+    private static final Json json = new Json();
+
+    private final String baseUrl;
+    private final Duration timeout;
+
+    private static final class Holder {
+        private static final HttpClient HTTP = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(ConfigurationManager.getInstance().getApiTimeoutSeconds()))
+                .build();
+        private static final ExecutorService BATCH = newBatchExecutor(
+                ConfigurationManager.getInstance().getApiMaxConcurrency());
+    }
+
+    /**
+     * Create a client for the API at api.base.url (base.url unless set).
+     */
+    public BookStoreClient() {
+        this(ConfigurationManager.getInstance().getApiBaseUrl());
+    }
+
+    /**
+     * Create a client for the API at the given address, e.g. the local stub.
+     * @param baseUrl Base URL such as http://127.0.0.1:8765
+     */
+    public BookStoreClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = Duration.ofSeconds(ConfigurationManager.getInstance().getApiTimeoutSeconds());
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Register a user and generate its token.
+     * @param userName User name
+     * @param password Password (at least 8 characters with upper and lower case, a digit and a special character)
+     * @return The new user, authorized
+     */
+    public CompletableFuture<ApiUser> createUser(String userName, String password) {
+        return send("POST", "/Account/v1/User", credentials(userName, password), null)
+                .thenCompose(created -> generateToken(userName, password)
+                        .thenApply(token -> new ApiUser(String.valueOf(asMap(created).get("userID")),
+                                userName, password, token)));
+    }
+
+    /**
+     * Generate a token for an existing user.
+     * @param userName User name
+     * @param password Password
+     * @return Token for the Authorization header
+     */
+    public CompletableFuture<String> generateToken(String userName, String password) {
+        return send("POST", "/Account/v1/GenerateToken", credentials(userName, password), null)
+                .thenApply(response -> {
+                    Map<String, Object> result = asMap(response);
+                    if (!"Success".equals(result.get("status"))) {
+                        throw new BookStoreApiException(401, "", String.valueOf(result.get("result")));
+                    }
+                    return String.valueOf(result.get("token"));
+                });
+    }
+
+    /**
+     * Authorize an existing user, e.g. an account from a data sheet.
+     * @param userName User name
+     * @param password Password
+     * @return The user with a new token
+     */
+    public CompletableFuture<ApiUser> login(String userName, String password) {
+        return generateToken(userName, password)
+                .thenCompose(token -> send("POST", "/Account/v1/Login", credentials(userName, password), null)
+                        .thenApply(response -> new ApiUser(String.valueOf(asMap(response).get("userId")),
+                                userName, password, token)));
+    }
+
+    /**
+     * Check if the credentials belong to an existing user.
+     * @param userName User name
+     * @param password Password
+     * @return true if the user exists and the password matches
+     */
+    public CompletableFuture<Boolean> isAuthorized(String userName, String password) {
+        return send("POST", "/Account/v1/Authorized", credentials(userName, password), null)
+                .thenApply(Boolean.TRUE::equals)
+                .exceptionally(error -> {
+                    if (cause(error) instanceof BookStoreApiException
+                            && ((BookStoreApiException) cause(error)).getStatus() == 404) {
+                        return false;
+                    }
+                    throw new CompletionException(cause(error));
+                });
+    }
+
+    /**
+     * Get the ISBNs in a user's collection.
+     * @param user Authorized user
+     * @return ISBNs in collection order
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<List<String>> getCollection(ApiUser user) {
+        return send("GET", "/Account/v1/User/" + encode(user.getUserId()), null, user)
+                .thenApply(response -> ((List<Map<String, Object>>) asMap(response).get("books")).stream()
+                        .map(book -> String.valueOf(book.get("isbn")))
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Add books to a user's collection.
+     * @param user  Authorized user
+     * @param isbns ISBNs from the catalogue, not yet in the collection
+     * @return Completes when the books were added
+     */
+    public CompletableFuture<Void> addBooks(ApiUser user, List<String> isbns) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userId", user.getUserId());
+        body.put("collectionOfIsbns", isbns.stream().map(isbn -> Map.of("isbn", isbn)).collect(Collectors.toList()));
+        return send("POST", "/BookStore/v1/Books", body, user).thenApply(response -> null);
+    }
+
+    /**
+     * Remove one book from a user's collection.
+     * @param user Authorized user
+     * @param isbn ISBN in the collection
+     * @return Completes when the book was removed
+     */
+    public CompletableFuture<Void> removeBook(ApiUser user, String isbn) {
+        return send("DELETE", "/BookStore/v1/Book", Map.of("isbn", isbn, "userId", user.getUserId()), user)
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Empty a user's collection.
+     * @param user Authorized user
+     * @return Completes when the collection is empty
+     */
+    public CompletableFuture<Void> clearCollection(ApiUser user) {
+        return send("DELETE", "/BookStore/v1/Books?UserId=" + encode(user.getUserId()), null, user)
+                .thenApply(response -> null);
+    }
+
+    /**
+     * Delete a user with its collection.
+     * @param user Authorized user
+     * @return Completes when the user is deleted
+     */
+    public CompletableFuture<Void> deleteUser(ApiUser user) {
+        return send("DELETE", "/Account/v1/User/" + encode(user.getUserId()), null, user).thenApply(response -> null);
+    }
+
+    /**
+     * Create users in parallel, each with the same books in its collection.
+     * @param userNames User names
+     * @param password  Password of all users
+     * @param isbns     Books to add to every collection (may be empty)
+     * @return Created users in the order of the names
+     */
+    public List<ApiUser> createUsers(List<String> userNames, String password, List<String> isbns) {
+        return batch(userNames, userName -> createUser(userName, password)
+                .thenCompose(user -> isbns.isEmpty() ? CompletableFuture.completedFuture(user)
+                        : addBooks(user, isbns).thenApply(added -> user)));
+    }
+
+    /**
+     * Delete users in parallel. Failures are logged, so one user that is already gone
+     * does not keep the others from being deleted.
+     * @param users Users to delete
+     * @return Number of users deleted
+     */
+    public int deleteUsers(Collection<ApiUser> users) {
+        return batch(users, user -> deleteUser(user)
+                .thenApply(deleted -> 1)
+                .exceptionally(error -> {
+                    logger.warn("Could not delete API user {}: {}", user, cause(error).getMessage());
+                    return 0;
+                }))
+                .stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Run an asynchronous operation for every item, at most api.max.concurrency at a time,
+     * and wait for all of them.
+     *
+     * @param items     Items to process
+     * @param operation Request(s) for one item
+     * @return Results in the order of the items
+     * @throws BookStoreApiException (or another runtime exception) of the first failed item
+     */
+    public <T, R> List<R> batch(Collection<T> items, Function<T, CompletableFuture<R>> operation) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> operation.apply(item).join(), Holder.BATCH));
+        }
+        return futures.stream().map(BookStoreClient::await).collect(Collectors.toList());
+    }
+
+    /**
+     * Wait for a request and rethrow its failure unwrapped.
+     * @param future Pending request
+     * @return Result of the request
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = cause(e);
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
+    private CompletableFuture<Object> send(String method, String path, Object body, ApiUser user) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(json.toJson(body), StandardCharsets.UTF_8));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (user != null) {
+            request.header("Authorization", "Bearer " + user.getToken());
+        }
+        long start = System.nanoTime();
+        return Holder.HTTP.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> {
+                    logger.debug("{} {} -> {} ({} ms)", method, path, response.statusCode(),
+                            (System.nanoTime() - start) / 1_000_000);
+                    return parse(response);
+                });
+    }
+
+    private static Object parse(HttpResponse<String> response) {
+        Object body = null;
+        if (!response.body().isBlank()) {
+            try {
+                body = json.toType(response.body(), Object.class);
+            } catch (JsonException e) {
+                body = response.body();
+            }
+        }
+        if (response.statusCode() >= 400) {
+            Map<String, Object> error = asMap(body);
+            throw new BookStoreApiException(response.statusCode(), String.valueOf(error.getOrDefault("code", "")),
+                    String.valueOf(error.containsKey("message") ? error.get("message") : body));
+        }
+        return body;
+    }
+
+    private static Map<String, Object> credentials(String userName, String password) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("userName", userName);
+        body.put("password", password);
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object response) {
+        return response instanceof Map ? (Map<String, Object>) response : Map.of();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static ExecutorService newBatchExecutor(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bookstore-api-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
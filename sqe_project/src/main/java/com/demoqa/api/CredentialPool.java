@@ -0,0 +1,200 @@
+package com.demoqa.api;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.utils.ExcelDataReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test accounts leased to one scenario at a time, so parallel scenarios never share a session or a collection.
+ * <p>
+ * Accounts come from credential.pool.source:
+ * <ul>
+ *   <li>api - credential.pool.size accounts are created through the API on the first lease. More are created
+ *       when all are leased, and all of them are deleted at the end of the run.</li>
+ *   <li>file - userName/password rows of credential.pool.sheet in credential.pool.file (Excel, or CSV with a
+ *       header row). When all are leased, a lease waits up to credential.pool.lease.timeout.seconds.</li>
+ * </ul>
+ * Returned accounts get an empty collection before they are leased again. There is one pool per API server.
+ */
+public final class CredentialPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialPool.class);
+    private static final String PASSWORD = "Secret#123";
+    private static final Map<String, CredentialPool> pools = new ConcurrentHashMap<>();
+
+    private final BookStoreClient client;
+    private final BlockingQueue<ApiUser> available = new LinkedBlockingQueue<>();
+    private final Set<ApiUser> provisioned = ConcurrentHashMap.newKeySet();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private boolean loaded;
+
+    private CredentialPool(BookStoreClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Get the pool of accounts on an API server.
+     * @param client Client of the server, e.g. the scenario's client
+     * @return CredentialPool for the client's base URL
+     */
+    public static CredentialPool forClient(BookStoreClient client) {
+        return pools.computeIfAbsent(client.getBaseUrl(), baseUrl -> new CredentialPool(client));
+    }
+
+    /**
+     * Lease an account that no other scenario uses until it is released.
+     * @return Authorized account
+     * @throws IllegalStateException if no account becomes free within credential.pool.lease.timeout.seconds
+     */
+    public ApiUser lease() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        load(config);
+        ApiUser user = available.poll();
+        if (user == null && "api".equalsIgnoreCase(config.getCredentialPoolSource())) {
+            user = provision(1).get(0);
+            logger.info("All pooled accounts are leased, created {}", user);
+        }
+        if (user == null) {
+            waits.incrementAndGet();
+            try {
+                user = available.poll(config.getCredentialPoolLeaseTimeoutSeconds(), TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (user == null) {
+            throw new IllegalStateException("No pooled account became free within "
+                    + config.getCredentialPoolLeaseTimeoutSeconds() + " s, add accounts to "
+                    + config.getCredentialPoolFile() + " or lower the parallelism");
+        }
+        leases.incrementAndGet();
+        logger.debug("Leased pooled account {}", user);
+        return user;
+    }
+
+    /**
+     * Empty the collection of a leased account and make it available again.
+     * An account that cannot be reset is dropped from the pool.
+     *
+     * @param user Account from {@link #lease()}
+     */
+    public void release(ApiUser user) {
+        try {
+            BookStoreClient.await(client.clearCollection(user));
+            available.offer(user);
+        } catch (RuntimeException e) {
+            dropped.incrementAndGet();
+            logger.warn("Could not reset pooled account {}, dropping it: {}", user, e.getMessage());
+            if (provisioned.remove(user)) {
+                client.deleteUsers(List.of(user));
+            }
+        }
+    }
+
+    /**
+     * Summarize pool use of this run.
+     * @return Counts of accounts, leases, waits and dropped accounts
+     */
+    public String getStats() {
+        return String.format("%d accounts, %d leases, %d waited, %d dropped",
+                available.size(), leases.get(), waits.get(), dropped.get());
+    }
+
+    /**
+     * Delete the accounts created by all pools at the end of the run and log their use.
+     */
+    public static void closeAll() {
+        for (Map.Entry<String, CredentialPool> entry : pools.entrySet()) {
+            CredentialPool pool = entry.getValue();
+            logger.info("Credential pool at {}: {}", entry.getKey(), pool.getStats());
+            if (!pool.provisioned.isEmpty()) {
+                pool.client.deleteUsers(pool.provisioned);
+                pool.provisioned.clear();
+            }
+        }
+        pools.clear();
+    }
+
+    /**
+     * Fill the pool on the first lease. A failed load is not recorded, so the next lease retries it
+     * and fails with the same cause instead of waiting for accounts that never come.
+     */
+    private synchronized void load(ConfigurationManager config) {
+        if (loaded) {
+            return;
+        }
+        if ("file".equalsIgnoreCase(config.getCredentialPoolSource())) {
+            List<Map<String, String>> rows = readAccounts(config.getCredentialPoolFile(),
+                    config.getCredentialPoolSheet());
+            // Accounts must exist already; a token per account authorizes the reset on release
+            available.addAll(client.batch(rows, row -> client.login(row.get("userName"), row.get("password"))));
+            logger.info("Credential pool: {} accounts from {}", available.size(), config.getCredentialPoolFile());
+        } else {
+            available.addAll(provision(config.getCredentialPoolSize()));
+            logger.info("Credential pool: created {} accounts at {}", available.size(), client.getBaseUrl());
+        }
+        loaded = true;
+    }
+
+    private List<ApiUser> provision(int count) {
+        List<String> userNames = IntStream.range(0, count)
+                .mapToObj(i -> "pool_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12))
+                .collect(Collectors.toList());
+        List<ApiUser> users = client.createUsers(userNames, PASSWORD, List.of());
+        provisioned.addAll(users);
+        return users;
+    }
+
+    private static List<Map<String, String>> readAccounts(String file, String sheet) {
+        if (!file.toLowerCase().endsWith(".csv")) {
+            ExcelDataReader reader = new ExcelDataReader(file);
+            try {
+                return reader.readColumns(sheet, "userName", "password");
+            } finally {
+                reader.close();
+            }
+        }
+        try {
+            List<String> lines = Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+            List<String> header = lines.isEmpty() ? List.of() : Arrays.asList(lines.get(0).trim().split("\\s*,\\s*"));
+            List<Map<String, String>> rows = new ArrayList<>();
+            for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] values = line.trim().split("\\s*,\\s*", -1);
+                Map<String, String> row = new LinkedHashMap<>();
+                for (int i = 0; i < header.size() && i < values.length; i++) {
+                    row.put(header.get(i), values[i]);
+                }
+                rows.add(row);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read pooled accounts from " + file, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.demoqa.aspects;
+
+import io.qameta.allure.Step;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Records @Step getters (get* and boolean is*) of page objects as Allure steps.
+ * Getters are called often (polling, assertions), so this aspect can be left
+ * out of the build with the no-getter-steps profile, which compiles the step
+ * recording out of them entirely.
+ */
+@Aspect
+public class GetterStepAspect {
+
+    @Around("(execution(@io.qameta.allure.Step * com.demoqa.pages..*.get*(..))"
+            + " || execution(@io.qameta.allure.Step boolean com.demoqa.pages..*.is*(..)))"
+            + " && @annotation(step)")
+    public Object step(ProceedingJoinPoint joinPoint, Step step) throws Throwable {
+        return StepRecorder.record(joinPoint, step);
+    }
+}
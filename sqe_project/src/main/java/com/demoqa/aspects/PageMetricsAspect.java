@@ -0,0 +1,53 @@
+package com.demoqa.aspects;
+
+import com.demoqa.metrics.LatencyHistogram;
+import com.demoqa.metrics.MetricsRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.Pointcut;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Records the latency of public page object methods into the metrics registry.
+ * Uses before/after advice with only the static join point part, so timing a
+ * call does not allocate.
+ */
+@Aspect
+public class PageMetricsAspect {
+
+    private final ConcurrentMap<JoinPoint.StaticPart, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Pointcut("execution(public !static * com.demoqa.pages..*.*(..))")
+    public void pageMethod() {
+        // Pointcut definition
+    }
+
+    @Before("pageMethod()")
+    public void start() {
+        if (MetricsRegistry.isEnabled()) {
+            MetricsRegistry.startTimer();
+        }
+    }
+
+    @After("pageMethod()")
+    public void stop(JoinPoint.StaticPart joinPoint) {
+        if (!MetricsRegistry.isEnabled()) {
+            return;
+        }
+        long nanos = MetricsRegistry.stopTimer();
+        if (nanos < 0) {
+            return;
+        }
+        LatencyHistogram histogram = histograms.get(joinPoint);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(joinPoint, key -> MetricsRegistry.getInstance().histogram(
+                    MetricsRegistry.Category.PAGE,
+                    key.getSignature().getDeclaringType().getSimpleName() + "." + key.getSignature().getName()));
+        }
+        histogram.recordNanos(nanos);
+    }
+}
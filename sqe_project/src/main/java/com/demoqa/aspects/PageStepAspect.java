@@ -0,0 +1,24 @@
+package com.demoqa.aspects;
+
+import io.qameta.allure.Step;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Records @Step methods of page objects as Allure steps.
+ * Woven into com.demoqa.pages at build time by aspectj-maven-plugin, so no
+ * -javaagent (and no load-time weaving at startup) is needed.
+ * Getters are handled separately by {@link GetterStepAspect}.
+ */
+@Aspect
+public class PageStepAspect {
+
+    @Around("execution(@io.qameta.allure.Step * com.demoqa.pages..*.*(..))"
+            + " && !execution(* com.demoqa.pages..*.get*(..))"
+            + " && !execution(boolean com.demoqa.pages..*.is*(..))"
+            + " && @annotation(step)")
+    public Object step(ProceedingJoinPoint joinPoint, Step step) throws Throwable {
+        return StepRecorder.record(joinPoint, step);
+    }
+}
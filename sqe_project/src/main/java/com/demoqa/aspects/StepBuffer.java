@@ -0,0 +1,135 @@
+package com.demoqa.aspects;
+
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-thread buffer of steps below the configured step level.
+ * Buffered steps are kept out of the Allure step tree while the scenario runs,
+ * together with the step list of the Allure step they would belong to.
+ * When the scenario fails they are inserted back into their parents, so the
+ * report shows full detail; when it passes they are dropped or collapsed into
+ * one summary step per parent.
+ */
+public final class StepBuffer {
+
+    private static final ThreadLocal<StepBuffer> current = ThreadLocal.withInitial(StepBuffer::new);
+
+    private final Deque<StepResult> open = new ArrayDeque<>();
+    private final List<StepResult> roots = new ArrayList<>();
+    private final List<List<StepResult>> parents = new ArrayList<>();
+
+    private StepBuffer() {
+    }
+
+    /**
+     * Get the buffer of the current thread.
+     */
+    static StepBuffer current() {
+        return current.get();
+    }
+
+    /**
+     * Check if a buffered step is running, in which case nested steps are buffered too.
+     */
+    boolean isBuffering() {
+        return !open.isEmpty();
+    }
+
+    /**
+     * Start buffering a step.
+     * @param step   Step result, not registered with the Allure lifecycle
+     * @param parent Step list of the Allure step the step runs in (used for top-level buffered steps)
+     */
+    void open(StepResult step, List<StepResult> parent) {
+        if (open.isEmpty()) {
+            roots.add(step);
+            parents.add(parent);
+        } else {
+            open.peek().getSteps().add(step);
+        }
+        open.push(step);
+    }
+
+    /**
+     * Finish the innermost buffered step.
+     */
+    void close() {
+        open.pop();
+    }
+
+    /**
+     * Resolve the buffered steps of the current thread's scenario.
+     * Must be called before the Allure test case is written.
+     *
+     * @param failed   true to expand buffered steps into the report
+     * @param collapse Handling of passed scenarios: "aggregate" adds a summary step, "drop" discards them
+     */
+    public static void finishScenario(boolean failed, String collapse) {
+        StepBuffer buffer = current.get();
+        try {
+            if (failed) {
+                for (int i = 0; i < buffer.roots.size(); i++) {
+                    insertByStart(buffer.parents.get(i), buffer.roots.get(i));
+                }
+            } else if ("aggregate".equalsIgnoreCase(collapse)) {
+                buffer.aggregate();
+            }
+        } finally {
+            current.remove();
+        }
+    }
+
+    /**
+     * Add one summary step per parent for its buffered steps.
+     */
+    private void aggregate() {
+        Map<List<StepResult>, List<StepResult>> byParent = new IdentityHashMap<>();
+        for (int i = 0; i < roots.size(); i++) {
+            byParent.computeIfAbsent(parents.get(i), key -> new ArrayList<>()).add(roots.get(i));
+        }
+        byParent.forEach((parent, steps) -> {
+            int count = 0;
+            for (StepResult step : steps) {
+                count += countSteps(step);
+            }
+            insertByStart(parent, new StepResult()
+                    .setName(count + (count == 1 ? " detail step passed" : " detail steps passed"))
+                    .setStatus(Status.PASSED)
+                    .setStage(Stage.FINISHED)
+                    .setStart(steps.get(0).getStart())
+                    .setStop(steps.get(steps.size() - 1).getStop()));
+        });
+    }
+
+    private static int countSteps(StepResult step) {
+        int count = 1;
+        for (StepResult child : step.getSteps()) {
+            count += countSteps(child);
+        }
+        return count;
+    }
+
+    /**
+     * Insert a step before the first sibling that started after it.
+     */
+    private static void insertByStart(List<StepResult> siblings, StepResult step) {
+        int index = siblings.size();
+        while (index > 0 && startOf(siblings.get(index - 1)) > startOf(step)) {
+            index--;
+        }
+        siblings.add(index, step);
+    }
+
+    private static long startOf(StepResult step) {
+        return step.getStart() == null ? 0 : step.getStart();
+    }
+}
@@ -0,0 +1,36 @@
+package com.demoqa.aspects;
+
+/**
+ * Verbosity level of a recorded step, from most to least significant.
+ * BUSINESS steps are the Cucumber steps (and business-level page methods),
+ * PAGE steps are page object actions and DRIVER steps are BasePage primitives
+ * such as click and type.
+ */
+public enum StepLevel {
+    BUSINESS,
+    PAGE,
+    DRIVER;
+
+    /**
+     * Check if steps of this level are recorded directly under a threshold.
+     * @param threshold Most detailed level that is recorded
+     * @return true if this level is at or above the threshold
+     */
+    public boolean isWithin(StepLevel threshold) {
+        return ordinal() <= threshold.ordinal();
+    }
+
+    /**
+     * Get StepLevel from configuration value.
+     * @param value Level name (business, page, driver)
+     * @return StepLevel enum
+     */
+    public static StepLevel fromString(String value) {
+        for (StepLevel level : values()) {
+            if (level.name().equalsIgnoreCase(value.trim())) {
+                return level;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported step level: " + value);
+    }
+}
@@ -0,0 +1,177 @@
+package com.demoqa.aspects;
+
+import com.demoqa.config.ConfigurationManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Step;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.AspectUtils;
+import io.qameta.allure.util.ResultsUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records Allure steps for methods woven at build time by the aspects in this package.
+ * Steps below the configured level (allure.step.level, see {@link StepLevel} and
+ * {@link Verbosity}) are held in a {@link StepBuffer} until the scenario ends.
+ * Also measures the time spent in step bookkeeping (name formatting, parameter
+ * serialization and lifecycle updates) so the per-call overhead of step recording
+ * can be reported for a run.
+ */
+public final class StepRecorder {
+
+    private static final LongAdder steps = new LongAdder();
+    private static final LongAdder overheadNanos = new LongAdder();
+    private static final ConcurrentMap<Method, StepLevel> levels = new ConcurrentHashMap<>();
+
+    /**
+     * Step level settings, read once on first use.
+     */
+    private static final class Settings {
+        private static final StepLevel THRESHOLD =
+                StepLevel.fromString(ConfigurationManager.getInstance().getAllureStepLevel());
+        private static final String COLLAPSE = ConfigurationManager.getInstance().getAllureStepCollapse();
+    }
+
+    private StepRecorder() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Run a join point as an Allure step.
+     * Methods called outside of a running test are executed without recording.
+     *
+     * @param joinPoint Woven method execution
+     * @param step      Step annotation of the method
+     * @return Method result
+     * @throws Throwable anything the method throws
+     */
+    static Object record(ProceedingJoinPoint joinPoint, Step step) throws Throwable {
+        long start = System.nanoTime();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> parent = lifecycle.getCurrentTestCaseOrStep();
+        if (parent.isEmpty()) {
+            return joinPoint.proceed();
+        }
+
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        StepResult stepResult = new StepResult()
+                .setName(AspectUtils.getName(step.value(), joinPoint))
+                .setParameters(AspectUtils.getParameters(signature, joinPoint.getArgs()));
+
+        StepBuffer buffer = StepBuffer.current();
+        List<StepResult> bufferParent = buffer.isBuffering() ? null
+                : bufferParent(lifecycle, parent.get(), levelOf(signature.getMethod()));
+        boolean buffered = buffer.isBuffering() || bufferParent != null;
+        String uuid = UUID.randomUUID().toString();
+        if (buffered) {
+            buffer.open(stepResult.setStage(Stage.RUNNING).setStart(System.currentTimeMillis()), bufferParent);
+        } else {
+            lifecycle.startStep(uuid, stepResult);
+        }
+        long proceeded = System.nanoTime();
+
+        Status status = Status.PASSED;
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            status = ResultsUtils.getStatus(e).orElse(Status.BROKEN);
+            throw e;
+        } finally {
+            long returned = System.nanoTime();
+            if (buffered) {
+                finish(stepResult, status, failure);
+                stepResult.setStage(Stage.FINISHED).setStop(System.currentTimeMillis());
+                buffer.close();
+            } else {
+                Status result = status;
+                Throwable error = failure;
+                lifecycle.updateStep(uuid, started -> finish(started, result, error));
+                lifecycle.stopStep(uuid);
+            }
+
+            steps.increment();
+            overheadNanos.add((proceeded - start) + (System.nanoTime() - returned));
+        }
+    }
+
+    private static void finish(StepResult stepResult, Status status, Throwable failure) {
+        stepResult.setStatus(status);
+        if (failure != null) {
+            ResultsUtils.getStatusDetails(failure).ifPresent(stepResult::setStatusDetails);
+        }
+    }
+
+    /**
+     * Get the step list a step below the configured level is buffered for.
+     * Steps at or above the level, and steps running directly in a test case or
+     * fixture (outside of any step), are recorded right away.
+     * @return Step list of the running Allure step, or null to record the step directly
+     */
+    private static List<StepResult> bufferParent(AllureLifecycle lifecycle, String parent, StepLevel level) {
+        if (level.isWithin(Settings.THRESHOLD) || parent.equals(lifecycle.getCurrentTestCase().orElse(null))) {
+            return null;
+        }
+        AtomicReference<List<StepResult>> steps = new AtomicReference<>();
+        lifecycle.updateStep(parent, running -> steps.set(running.getSteps()));
+        return steps.get();
+    }
+
+    /**
+     * Get the verbosity level of a step method.
+     */
+    private static StepLevel levelOf(Method method) {
+        return levels.computeIfAbsent(method, key -> {
+            Verbosity verbosity = key.getAnnotation(Verbosity.class);
+            return verbosity == null ? StepLevel.PAGE : verbosity.value();
+        });
+    }
+
+    /**
+     * Finish the current thread's scenario: expand buffered detail steps if it failed,
+     * otherwise drop or aggregate them as configured by allure.step.collapse.
+     * @param failed true if the scenario failed
+     */
+    public static void finishScenario(boolean failed) {
+        StepBuffer.finishScenario(failed, Settings.COLLAPSE);
+    }
+
+    /**
+     * Get the number of recorded steps.
+     * @return Step count
+     */
+    public static long getStepCount() {
+        return steps.sum();
+    }
+
+    /**
+     * Get the average time spent recording a step, excluding the method itself.
+     * @return Average overhead in microseconds
+     */
+    public static double getAverageOverheadMicros() {
+        long count = steps.sum();
+        return count == 0 ? 0 : overheadNanos.sum() / 1000.0 / count;
+    }
+
+    /**
+     * Get a summary of step recording cost.
+     * @return Human readable summary
+     */
+    public static String getStats() {
+        return String.format("%d steps recorded, %.1f us average overhead per step, %.1f ms total",
+                getStepCount(), getAverageOverheadMicros(), overheadNanos.sum() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.demoqa.aspects;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sets the verbosity level of a @Step method.
+ * Steps without this annotation are {@link StepLevel#PAGE} steps.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Verbosity {
+
+    StepLevel value();
+}
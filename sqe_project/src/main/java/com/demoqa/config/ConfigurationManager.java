@@ -1,44 +1,364 @@
 package com.demoqa.config;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 /**
  * Singleton Configuration Manager for managing framework properties.
- * Loads configuration from config.properties file.
+ * Properties are resolved once into an immutable, typed and validated snapshot.
+ * Sources, later ones overriding earlier ones:
+ * <ol>
+ *   <li>config.properties on the classpath</li>
+ *   <li>the file named by config.file (system property or DEMOQA_CONFIG_FILE)</li>
+ *   <li>environment variables prefixed with DEMOQA_, e.g. DEMOQA_BASE_URL for base.url</li>
+ *   <li>system properties</li>
+ * </ol>
  */
 public class ConfigurationManager {
     
-    private static ConfigurationManager instance;
-    private final Properties properties;
-    private static final String CONFIG_FILE = "src/test/resources/config.properties";
+    private static final String CONFIG_RESOURCE = "config.properties";
+    // Used when the classpath has no config.properties, e.g. main classes run with exec:java
+    private static final String SOURCE_CONFIG_FILE = "src/test/resources/config.properties";
+    private static final String CONFIG_FILE_PROPERTY = "config.file";
+    private static final String PROFILE_PROPERTY = "profile";
+    private static final String ENV_PREFIX = "DEMOQA_";
+    private static final String ENVIRONMENT = "environment";
+    private static final String SYSTEM_PROPERTIES = "system properties";
+    // Ad and tracker hosts demoqa.com loads on every page
+    private static final String DEFAULT_BLOCKLIST = "*googlesyndication.com*,*doubleclick.net*,"
+            + "*googletagservices.com*,*googletagmanager.com*,*google-analytics.com*,*adservice.google.*,"
+            + "*amazon-adsystem.com*,*adnxs.com*,*criteo.*,*pubmatic.com*,*rubiconproject.com*,*taboola.com*,"
+            + "*outbrain.com*,*scorecardresearch.com*,*moatads.com*,*ezoic*,*facebook.net*";
+    private static final String DEFAULT_LIGHT_BLOCKLIST = "*.png*,*.jpg*,*.jpeg*,*.gif*,*.webp*,*.avif*,*.svg*,"
+            + "*.ico*,*.woff*,*.ttf*,*.otf*,*.eot*,*.mp4*,*.webm*,*.mp3*,*.m4a*,*.ogg*";
     
-    private ConfigurationManager() {
-        properties = new Properties();
-        loadProperties();
+    private final Map<String, String> properties;
+    private final Map<String, String> origins;
+    private final List<String> sources;
+    private final List<String> profiles;
+    private final Map<String, String> effective;
+    private final String baseUrl;
+    private final String browser;
+    private final boolean headless;
+    private final int implicitWait;
+    private final int explicitWait;
+    private final int pageLoadTimeout;
+    private final String pageLoadStrategy;
+    private final boolean blockImages;
+    private final boolean driverPoolEnabled;
+    private final int driverPoolMaxReuse;
+    private final boolean navigationReuse;
+    private final boolean sessionSnapshotEnabled;
+    private final int sessionSnapshotTtlMinutes;
+    private final String sessionRestorePath;
+    private final String apiBaseUrl;
+    private final int apiTimeoutSeconds;
+    private final int apiMaxConcurrency;
+    private final String credentialPoolSource;
+    private final String credentialPoolFile;
+    private final String credentialPoolSheet;
+    private final int credentialPoolSize;
+    private final int credentialPoolLeaseTimeoutSeconds;
+    private final String excelFilePath;
+    private final String screenshotDirectory;
+    private final int screenshotMaxWidth;
+    private final long screenshotRetentionMaxBytes;
+    private final long screenshotRetentionMaxAgeHours;
+    private final long screenshotRetentionIntervalSeconds;
+    private final String failureArtifacts;
+    private final boolean failureBundleEnabled;
+    private final String failureBundleDirectory;
+    private final long failureBundleMaxBytes;
+    private final int browserLogMaxEntries;
+    private final String logMode;
+    private final int logBufferCapacity;
+    private final String logBufferLevel;
+    private final String logPassthroughLevel;
+    private final boolean logVerbose;
+    private final String logBufferSink;
+    private final String logDirectory;
+    private final boolean screencastEnabled;
+    private final int screencastMaxFrames;
+    private final long screencastMaxBytes;
+    private final int screencastQuality;
+    private final int screencastMaxWidth;
+    private final int screencastMaxHeight;
+    private final int screencastEveryNthFrame;
+    private final boolean allureAsyncWriterEnabled;
+    private final int allureWriterQueueCapacity;
+    private final int allureWriterStreamThresholdBytes;
+    private final String allureStepLevel;
+    private final String allureStepCollapse;
+    private final boolean metricsEnabled;
+    private final String metricsDirectory;
+    private final int metricsAllureTop;
+    private final boolean metricsHttpEnabled;
+    private final String metricsHttpHost;
+    private final int metricsHttpPort;
+    private final boolean locatorProfilerEnabled;
+    private final int locatorProfilerTop;
+    private final boolean jfrEventsEnabled;
+    private final boolean historyEnabled;
+    private final String historyFile;
+    private final long historyMaxBytes;
+    private final String historyCommit;
+    private final int historyBaselineRuns;
+    private final int historyMinSamples;
+    private final double historyAlpha;
+    private final double historyMinSlowdown;
+    private final long historyMinDeltaMillis;
+    private final boolean historyFailOnRegression;
+    private final boolean stubEnabled;
+    private final String stubHost;
+    private final int stubPort;
+    private final int stubLatencyMillis;
+    private final int stubApiLatencyMillis;
+    private final int stubLatencyJitterMillis;
+    private final String trafficCacheMode;
+    private final String trafficCacheDirectory;
+    private final List<Pattern> trafficCacheExcludes;
+    private final boolean networkBlockingEnabled;
+    private final List<String> networkBlocklist;
+    private final String resourceLightMode;
+    private final List<String> resourceLightBlocklist;
+    
+    private static final class Holder {
+        private static final ConfigurationManager INSTANCE = load();
+    }
+    
+    private ConfigurationManager(Map<String, String> properties, Map<String, String> origins,
+                                 List<String> sources, List<String> profiles) {
+        this.properties = Collections.unmodifiableMap(properties);
+        this.origins = origins;
+        this.sources = Collections.unmodifiableList(sources);
+        this.profiles = Collections.unmodifiableList(profiles);
+        
+        Values values = new Values(properties);
+        baseUrl = values.string("base.url", "https://demoqa.com");
+        browser = values.oneOf("browser", "chrome", "chrome", "firefox", "edge");
+        headless = values.bool("headless", false);
+        implicitWait = values.integer("implicit.wait", 10, 0, Integer.MAX_VALUE);
+        explicitWait = values.integer("explicit.wait", 15, 0, Integer.MAX_VALUE);
+        pageLoadTimeout = values.integer("page.load.timeout", 30, 0, Integer.MAX_VALUE);
+        pageLoadStrategy = values.oneOf("page.load.strategy", "eager", "normal", "eager", "none");
+        blockImages = values.bool("browser.block.images", false);
+        driverPoolEnabled = values.bool("driver.pool.enabled", false);
+        driverPoolMaxReuse = values.integer("driver.pool.max.reuse", 50, 0, Integer.MAX_VALUE);
+        navigationReuse = values.bool("navigation.reuse", false);
+        sessionSnapshotEnabled = values.bool("session.snapshot.enabled", false);
+        sessionSnapshotTtlMinutes = values.integer("session.snapshot.ttl.minutes", 30, 1, Integer.MAX_VALUE);
+        sessionRestorePath = values.string("session.restore.path", "/robots.txt");
+        String apiUrl = values.string("api.base.url", "");
+        apiBaseUrl = apiUrl.isEmpty() ? baseUrl : apiUrl;
+        apiTimeoutSeconds = values.integer("api.timeout.seconds", 10, 1, Integer.MAX_VALUE);
+        apiMaxConcurrency = values.integer("api.max.concurrency", 8, 1, 256);
+        excelFilePath = values.string("excel.file.path", "src/test/resources/testdata/testdata.xlsx");
+        credentialPoolSource = values.oneOf("credential.pool.source", "api", "api", "file");
+        String poolFile = values.string("credential.pool.file", "");
+        credentialPoolFile = poolFile.isEmpty() ? excelFilePath : poolFile;
+        credentialPoolSheet = values.string("credential.pool.sheet", "Accounts");
+        credentialPoolSize = values.integer("credential.pool.size", 4, 0, 1000);
+        credentialPoolLeaseTimeoutSeconds = values.integer("credential.pool.lease.timeout.seconds", 60, 0,
+                Integer.MAX_VALUE);
+        screenshotDirectory = values.string("screenshot.directory", "target/screenshots");
+        screenshotMaxWidth = values.integer("screenshot.max.width", 0, 0, Integer.MAX_VALUE);
+        screenshotRetentionMaxBytes = values.longValue("screenshot.retention.max.bytes", 209715200L, 0, Long.MAX_VALUE);
+        screenshotRetentionMaxAgeHours = values.longValue("screenshot.retention.max.age.hours", 72L, 0, Long.MAX_VALUE);
+        screenshotRetentionIntervalSeconds = values.longValue("screenshot.retention.interval.seconds", 30L,
+                1, Long.MAX_VALUE);
+        failureArtifacts = values.string("failure.artifacts", "page,element,dom");
+        failureBundleEnabled = values.bool("failure.bundle.enabled", false);
+        failureBundleDirectory = values.string("failure.bundle.directory", "target/failure-bundles");
+        failureBundleMaxBytes = values.longValue("failure.bundle.max.bytes", 5242880L, 1, Long.MAX_VALUE);
+        browserLogMaxEntries = values.integer("browser.log.max.entries", 1000, 1, Integer.MAX_VALUE);
+        logMode = values.oneOf("log.mode", "direct", "direct", "buffered");
+        logBufferCapacity = values.integer("log.buffer.capacity", 2000, 1, Integer.MAX_VALUE);
+        logBufferLevel = values.oneOf("log.buffer.level", "DEBUG", "TRACE", "DEBUG", "INFO", "WARN", "ERROR");
+        logPassthroughLevel = values.oneOf("log.buffer.passthrough.level", "WARN",
+                "TRACE", "DEBUG", "INFO", "WARN", "ERROR");
+        logVerbose = values.bool("log.verbose", false);
+        logBufferSink = values.oneOf("log.buffer.sink", "allure", "allure", "file");
+        logDirectory = values.string("log.directory", "target/logs");
+        screencastEnabled = values.bool("screencast.enabled", false);
+        screencastMaxFrames = values.integer("screencast.max.frames", 150, 1, Integer.MAX_VALUE);
+        screencastMaxBytes = values.longValue("screencast.max.bytes", 10485760L, 1, Long.MAX_VALUE);
+        screencastQuality = values.integer("screencast.quality", 40, 0, 100);
+        screencastMaxWidth = values.integer("screencast.max.width", 960, 1, Integer.MAX_VALUE);
+        screencastMaxHeight = values.integer("screencast.max.height", 540, 1, Integer.MAX_VALUE);
+        screencastEveryNthFrame = values.integer("screencast.every.nth.frame", 3, 1, Integer.MAX_VALUE);
+        allureAsyncWriterEnabled = values.bool("allure.writer.async", false);
+        allureWriterQueueCapacity = values.integer("allure.writer.queue.capacity", 1000, 1, Integer.MAX_VALUE);
+        allureWriterStreamThresholdBytes = values.integer("allure.writer.stream.threshold.bytes", 1048576,
+                0, Integer.MAX_VALUE - 1);
+        allureStepLevel = values.oneOf("allure.step.level", "driver", "business", "page", "driver");
+        allureStepCollapse = values.oneOf("allure.step.collapse", "aggregate", "aggregate", "drop");
+        metricsEnabled = values.bool("metrics.enabled", false);
+        metricsDirectory = values.string("metrics.directory", "target/metrics");
+        metricsAllureTop = values.integer("metrics.allure.top", 10, 0, Integer.MAX_VALUE);
+        metricsHttpEnabled = values.bool("metrics.http.enabled", false);
+        metricsHttpHost = values.string("metrics.http.host", "127.0.0.1");
+        metricsHttpPort = values.integer("metrics.http.port", 9464, 0, 65535);
+        locatorProfilerEnabled = values.bool("locator.profiler.enabled", false);
+        locatorProfilerTop = values.integer("locator.profiler.top", 10, 0, Integer.MAX_VALUE);
+        jfrEventsEnabled = values.bool("jfr.events.enabled", false);
+        historyEnabled = values.bool("history.enabled", false);
+        historyFile = values.string("history.file", ".perf-history/history.tsv");
+        historyMaxBytes = values.longValue("history.max.bytes", 5242880L, 1, Long.MAX_VALUE);
+        historyCommit = values.string("history.commit", null);
+        historyBaselineRuns = values.integer("history.baseline.runs", 20, 1, Integer.MAX_VALUE);
+        historyMinSamples = values.integer("history.min.samples", 5, 1, Integer.MAX_VALUE);
+        historyAlpha = values.decimal("history.alpha", 0.01, 0, 1);
+        historyMinSlowdown = values.decimal("history.min.slowdown", 1.2, 1, Double.MAX_VALUE);
+        historyMinDeltaMillis = values.longValue("history.min.delta.ms", 100L, 0, Long.MAX_VALUE);
+        historyFailOnRegression = values.bool("history.fail.on.regression", false);
+        stubEnabled = values.bool("stub.enabled", false);
+        stubHost = values.string("stub.host", "127.0.0.1");
+        stubPort = values.integer("stub.port", 8765, 0, 65535);
+        stubLatencyMillis = values.integer("stub.latency.ms", 0, 0, Integer.MAX_VALUE);
+        stubApiLatencyMillis = values.integer("stub.api.latency.ms", 0, 0, Integer.MAX_VALUE);
+        stubLatencyJitterMillis = values.integer("stub.latency.jitter.ms", 0, 0, Integer.MAX_VALUE);
+        trafficCacheMode = values.oneOf("traffic.cache.mode", "off", "off", "record", "replay", "auto");
+        trafficCacheDirectory = values.string("traffic.cache.directory", ".traffic-cache");
+        trafficCacheExcludes = values.patterns("traffic.cache.exclude", "/Account/v1/");
+        networkBlockingEnabled = values.bool("network.blocking.enabled", true);
+        networkBlocklist = values.list("network.blocklist", DEFAULT_BLOCKLIST);
+        resourceLightMode = values.oneOf("resource.light.mode", "tagged", "off", "tagged", "all");
+        resourceLightBlocklist = values.list("resource.light.blocklist", DEFAULT_LIGHT_BLOCKLIST);
+        values.validate(sources);
+        effective = values.used;
     }
     
     /**
      * Get singleton instance of ConfigurationManager.
      * @return ConfigurationManager instance
      */
-    public static synchronized ConfigurationManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigurationManager();
+    public static ConfigurationManager getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Resolve all configuration sources into a snapshot.
+     */
+    private static ConfigurationManager load() {
+        return load(name -> readResource(name, SOURCE_CONFIG_FILE.replace(CONFIG_RESOURCE, name)),
+                System.getenv(), System.getProperties());
+    }
+    
+    /**
+     * Resolve the given configuration sources into a snapshot (package-private for tests).
+     * @param resources        Configuration resource by name (config.properties, config-&lt;profile&gt;.properties),
+     *                         null if it does not exist
+     * @param environment      Environment variables
+     * @param systemProperties System properties
+     * @return Validated configuration
+     * @throws IllegalStateException if a profile is unknown, no configuration is found or values are invalid
+     */
+    static ConfigurationManager load(Function<String, Properties> resources, Map<String, String> environment,
+                                     Properties systemProperties) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        Map<String, String> origins = new HashMap<>();
+        List<String> sources = new ArrayList<>();
+        
+        Properties base = resources.apply(CONFIG_RESOURCE);
+        if (base != null) {
+            merge(base, CONFIG_RESOURCE, properties, origins, sources);
+        }
+        
+        // Profiles are selected by a system property, environment variable or config.properties
+        String selected = systemProperties.getProperty(PROFILE_PROPERTY, environment.get(ENV_PREFIX + "PROFILE"));
+        if (selected == null) {
+            selected = properties.get(PROFILE_PROPERTY);
         }
-        return instance;
+        List<String> profiles = new ArrayList<>();
+        if (selected != null) {
+            for (String profile : selected.split(",")) {
+                if (!profile.isBlank()) {
+                    profiles.add(profile.trim());
+                }
+            }
+        }
+        for (String profile : profiles) {
+            String name = "config-" + profile + ".properties";
+            Properties overlay = resources.apply(name);
+            if (overlay == null) {
+                throw new IllegalStateException("Unknown configuration profile: " + profile + " (" + name + ")");
+            }
+            merge(overlay, "profile " + profile, properties, origins, sources);
+        }
+        
+        String configFile = systemProperties.getProperty(CONFIG_FILE_PROPERTY,
+                environment.get(ENV_PREFIX + "CONFIG_FILE"));
+        if (configFile != null) {
+            merge(read(Paths.get(configFile)), configFile, properties, origins, sources);
+        }
+        if (sources.isEmpty()) {
+            throw new IllegalStateException("Configuration not found: no " + CONFIG_RESOURCE
+                    + " on the classpath and no " + CONFIG_FILE_PROPERTY + " given");
+        }
+        
+        Properties variables = new Properties();
+        environment.forEach((name, value) -> {
+            if (name.startsWith(ENV_PREFIX) && name.length() > ENV_PREFIX.length()) {
+                variables.setProperty(name.substring(ENV_PREFIX.length()).toLowerCase().replace('_', '.'), value);
+            }
+        });
+        merge(variables, ENVIRONMENT, properties, origins, sources);
+        merge(systemProperties, SYSTEM_PROPERTIES, properties, origins, sources);
+        
+        return new ConfigurationManager(properties, origins, sources, profiles);
+    }
+    
+    private static void merge(Properties layer, String source, Map<String, String> properties,
+                              Map<String, String> origins, List<String> sources) {
+        for (String name : layer.stringPropertyNames()) {
+            properties.put(name, layer.getProperty(name).trim());
+            origins.put(name, source);
+        }
+        sources.add(source);
     }
     
     /**
-     * Load properties from config file.
+     * Read a properties file from the classpath, falling back to the source tree.
+     * @return Properties or null if neither exists
      */
-    private void loadProperties() {
-        try (InputStream input = new FileInputStream(CONFIG_FILE)) {
+    private static Properties readResource(String resource, String sourceFile) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        URL url = (loader != null ? loader : ConfigurationManager.class.getClassLoader()).getResource(resource);
+        if (url != null) {
+            try (InputStream input = url.openStream()) {
+                Properties properties = new Properties();
+                properties.load(input);
+                return properties;
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load configuration file: " + url, e);
+            }
+        }
+        return Files.exists(Paths.get(sourceFile)) ? read(Paths.get(sourceFile)) : null;
+    }
+    
+    private static Properties read(Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            Properties properties = new Properties();
             properties.load(input);
+            return properties;
         } catch (IOException e) {
-            throw new RuntimeException("Failed to load configuration file: " + CONFIG_FILE, e);
+            throw new RuntimeException("Failed to load configuration file: " + file.toAbsolutePath(), e);
         }
     }
     
@@ -48,11 +368,7 @@ public class ConfigurationManager {
      * @return Property value or null if not found
      */
     public String getProperty(String key) {
-        String systemProperty = System.getProperty(key);
-        if (systemProperty != null) {
-            return systemProperty;
-        }
-        return properties.getProperty(key);
+        return properties.get(key);
     }
     
     /**
@@ -62,8 +378,48 @@ public class ConfigurationManager {
      * @return Property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
-        return value != null ? value : defaultValue;
+        return properties.getOrDefault(key, defaultValue);
+    }
+    
+    /**
+     * Get the sources the configuration was resolved from, lowest precedence first.
+     * @return Source descriptions
+     */
+    public List<String> getSources() {
+        return sources;
+    }
+    
+    /**
+     * Get the active profiles (profile property, e.g. ci-fast overlays config-ci-fast.properties).
+     * @return Profile names in overlay order
+     */
+    public List<String> getProfiles() {
+        return profiles;
+    }
+    
+    /**
+     * Describe the effective configuration: every typed setting and every property
+     * from a configuration file or DEMOQA_ variable, with the source of its value.
+     * Values of keys that look like credentials are masked.
+     * @return Multi-line description
+     */
+    public String describe() {
+        Map<String, String> entries = new LinkedHashMap<>(effective);
+        properties.forEach((key, value) -> {
+            if (!SYSTEM_PROPERTIES.equals(origins.get(key))) {
+                entries.putIfAbsent(key, value);
+            }
+        });
+        
+        StringBuilder text = new StringBuilder("Effective configuration (profile: ")
+                .append(profiles.isEmpty() ? "none" : String.join(", ", profiles)).append(")");
+        entries.forEach((key, value) -> {
+            String lower = key.toLowerCase();
+            boolean secret = lower.contains("password") || lower.contains("secret") || lower.contains("token");
+            text.append("\n  ").append(key).append(" = ").append(secret && !"null".equals(value) ? "****" : value)
+                    .append(" [").append(origins.getOrDefault(key, "default")).append(']');
+        });
+        return text.toString();
     }
     
     /**
@@ -71,7 +427,7 @@ public class ConfigurationManager {
      * @return Base URL
      */
     public String getBaseUrl() {
-        return getProperty("base.url", "https://demoqa.com");
+        return baseUrl;
     }
     
     /**
@@ -79,7 +435,7 @@ public class ConfigurationManager {
      * @return Browser name (chrome, firefox, edge)
      */
     public String getBrowser() {
-        return getProperty("browser", "chrome");
+        return browser;
     }
     
     /**
@@ -87,7 +443,7 @@ public class ConfigurationManager {
      * @return true if headless mode is enabled
      */
     public boolean isHeadless() {
-        return Boolean.parseBoolean(getProperty("headless", "false"));
+        return headless;
     }
     
     /**
@@ -95,7 +451,7 @@ public class ConfigurationManager {
      * @return Implicit wait timeout
      */
     public int getImplicitWait() {
-        return Integer.parseInt(getProperty("implicit.wait", "10"));
+        return implicitWait;
     }
     
     /**
@@ -103,7 +459,7 @@ public class ConfigurationManager {
      * @return Explicit wait timeout
      */
     public int getExplicitWait() {
-        return Integer.parseInt(getProperty("explicit.wait", "15"));
+        return explicitWait;
     }
     
     /**
@@ -111,7 +467,137 @@ public class ConfigurationManager {
      * @return Page load timeout
      */
     public int getPageLoadTimeout() {
-        return Integer.parseInt(getProperty("page.load.timeout", "30"));
+        return pageLoadTimeout;
+    }
+    
+    /**
+     * Get page load strategy: "normal" waits for the load event, "eager" for DOMContentLoaded,
+     * "none" returns immediately.
+     * @return Page load strategy
+     */
+    public String getPageLoadStrategy() {
+        return pageLoadStrategy;
+    }
+    
+    /**
+     * Check if the browser is started with image loading disabled.
+     * @return true if images are blocked
+     */
+    public boolean isBlockImages() {
+        return blockImages;
+    }
+    
+    /**
+     * Check if a thread keeps its browser across passing scenarios instead of starting a new one.
+     * @return true if drivers are pooled per thread
+     */
+    public boolean isDriverPoolEnabled() {
+        return driverPoolEnabled;
+    }
+    
+    /**
+     * Get number of scenarios a pooled browser is reused for before it is replaced.
+     * @return Maximum reuse count
+     */
+    public int getDriverPoolMaxReuse() {
+        return driverPoolMaxReuse;
+    }
+    
+    /**
+     * Check if opening a page the browser is already on resets the page instead of reloading it,
+     * for pages that support it. Pooled browsers then also stay on their last page between scenarios.
+     * @return true if navigations may be skipped
+     */
+    public boolean isNavigationReuse() {
+        return navigationReuse;
+    }
+    
+    /**
+     * Check if logged-in sessions are saved and restored instead of logging in through the UI each time.
+     * @return true if session snapshots are used
+     */
+    public boolean isSessionSnapshotEnabled() {
+        return sessionSnapshotEnabled;
+    }
+    
+    /**
+     * Get how long a session snapshot is restored before the account logs in again.
+     * @return TTL in minutes
+     */
+    public int getSessionSnapshotTtlMinutes() {
+        return sessionSnapshotTtlMinutes;
+    }
+    
+    /**
+     * Get path loaded to restore a session into a browser that is not on the site yet.
+     * @return Path relative to the site, should be cheap to load
+     */
+    public String getSessionRestorePath() {
+        return sessionRestorePath;
+    }
+    
+    /**
+     * Get base URL of the BookStore REST API used for test setup.
+     * @return api.base.url, or base.url if it is not set
+     */
+    public String getApiBaseUrl() {
+        return apiBaseUrl;
+    }
+    
+    /**
+     * Get timeout of a single BookStore API request.
+     * @return Timeout in seconds
+     */
+    public int getApiTimeoutSeconds() {
+        return apiTimeoutSeconds;
+    }
+    
+    /**
+     * Get maximum number of BookStore API operations run in parallel by a batch.
+     * @return Number of concurrent operations
+     */
+    public int getApiMaxConcurrency() {
+        return apiMaxConcurrency;
+    }
+    
+    /**
+     * Get where pooled test accounts come from.
+     * @return "api" (created through the API) or "file" (read from credential.pool.file)
+     */
+    public String getCredentialPoolSource() {
+        return credentialPoolSource;
+    }
+    
+    /**
+     * Get the Excel or CSV file listing existing accounts for the credential pool.
+     * @return credential.pool.file, or excel.file.path if it is not set
+     */
+    public String getCredentialPoolFile() {
+        return credentialPoolFile;
+    }
+    
+    /**
+     * Get the sheet of the Excel file that lists pooled accounts.
+     * @return Sheet name with userName and password columns
+     */
+    public String getCredentialPoolSheet() {
+        return credentialPoolSheet;
+    }
+    
+    /**
+     * Get number of accounts created through the API when the credential pool is first used.
+     * @return Initial pool size
+     */
+    public int getCredentialPoolSize() {
+        return credentialPoolSize;
+    }
+    
+    /**
+     * Get how long a scenario waits for a pooled account when all are leased.
+     * @return Timeout in seconds
+     */
+    public int getCredentialPoolLeaseTimeoutSeconds() {
+        return credentialPoolLeaseTimeoutSeconds;
     }
     
     /**
@@ -119,6 +605,622 @@ public class ConfigurationManager {
      * @return Path to Excel file
      */
     public String getExcelFilePath() {
-        return getProperty("excel.file.path", "src/test/resources/testdata/testdata.xlsx");
+        return excelFilePath;
+    }
+    
+    /**
+     * Get directory where screenshots are saved.
+     * @return Screenshot directory
+     */
+    public String getScreenshotDirectory() {
+        return screenshotDirectory;
+    }
+    
+    /**
+     * Get maximum screenshot width in pixels; wider screenshots are downscaled (0 keeps full size).
+     * @return Maximum screenshot width
+     */
+    public int getScreenshotMaxWidth() {
+        return screenshotMaxWidth;
+    }
+    
+    /**
+     * Get maximum total size of the screenshot directory in bytes.
+     * @return Byte cap for retained screenshots
+     */
+    public long getScreenshotRetentionMaxBytes() {
+        return screenshotRetentionMaxBytes;
+    }
+    
+    /**
+     * Get maximum age of retained screenshots in hours.
+     * @return Maximum screenshot age
+     */
+    public long getScreenshotRetentionMaxAgeHours() {
+        return screenshotRetentionMaxAgeHours;
+    }
+    
+    /**
+     * Get interval between background retention sweeps in seconds.
+     * @return Sweep interval
+     */
+    public long getScreenshotRetentionIntervalSeconds() {
+        return screenshotRetentionIntervalSeconds;
+    }
+    
+    /**
+     * Get default failure artifact mix (comma-separated: page, element, dom, mhtml).
+     * @return Failure artifact mix
+     */
+    public String getFailureArtifacts() {
+        return failureArtifacts;
+    }
+    
+    /**
+     * Get failure artifact mix override for a scenario tag.
+     * @param tag Tag name without leading @
+     * @return Failure artifact mix or null if the tag has no override
+     */
+    public String getFailureArtifactsForTag(String tag) {
+        return getProperty("failure.artifacts.tag." + tag);
+    }
+    
+    /**
+     * Check if failures are collected into a single zip bundle
+     * (artifacts plus browser console and network logs).
+     * @return true if failure bundles are enabled
+     */
+    public boolean isFailureBundleEnabled() {
+        return failureBundleEnabled;
+    }
+    
+    /**
+     * Get directory where failure bundles are written.
+     * @return Failure bundle directory
+     */
+    public String getFailureBundleDirectory() {
+        return failureBundleDirectory;
+    }
+    
+    /**
+     * Get maximum size of a single failure bundle in bytes.
+     * @return Bundle size cap
+     */
+    public long getFailureBundleMaxBytes() {
+        return failureBundleMaxBytes;
+    }
+    
+    /**
+     * Get maximum number of console and network entries kept per browser.
+     * @return Maximum entries per log
+     */
+    public int getBrowserLogMaxEntries() {
+        return browserLogMaxEntries;
+    }
+    
+    /**
+     * Get logging mode: "direct" writes every event immediately,
+     * "buffered" keeps per-scenario events in memory and emits them on failure.
+     * @return Logging mode
+     */
+    public String getLogMode() {
+        return logMode;
+    }
+    
+    /**
+     * Get number of events kept per scenario in buffered logging mode.
+     * @return Buffer capacity
+     */
+    public int getLogBufferCapacity() {
+        return logBufferCapacity;
+    }
+    
+    /**
+     * Get lowest level captured in the scenario log buffer.
+     * @return Level name (TRACE, DEBUG, INFO, WARN, ERROR)
+     */
+    public String getLogBufferLevel() {
+        return logBufferLevel;
+    }
+    
+    /**
+     * Get lowest level that is also written directly in buffered logging mode.
+     * @return Level name (TRACE, DEBUG, INFO, WARN, ERROR)
+     */
+    public String getLogPassthroughLevel() {
+        return logPassthroughLevel;
+    }
+    
+    /**
+     * Check if scenario log buffers are emitted for passing scenarios too.
+     * @return true if verbose logging is enabled
+     */
+    public boolean isLogVerbose() {
+        return logVerbose;
+    }
+    
+    /**
+     * Get where emitted scenario logs go: "allure" (attachment) or "file".
+     * @return Scenario log sink
+     */
+    public String getLogBufferSink() {
+        return logBufferSink;
+    }
+    
+    /**
+     * Get directory for scenario log files.
+     * @return Log directory
+     */
+    public String getLogDirectory() {
+        return logDirectory;
+    }
+    
+    /**
+     * Check if failure-only screencast recording is enabled (Chrome/Edge only).
+     * @return true if screencast recording is enabled
+     */
+    public boolean isScreencastEnabled() {
+        return screencastEnabled;
+    }
+    
+    /**
+     * Get maximum number of screencast frames kept in memory per session.
+     * @return Maximum frame count
+     */
+    public int getScreencastMaxFrames() {
+        return screencastMaxFrames;
+    }
+    
+    /**
+     * Get maximum size of buffered screencast frames in bytes per session.
+     * @return Maximum buffer size in bytes
+     */
+    public long getScreencastMaxBytes() {
+        return screencastMaxBytes;
+    }
+    
+    /**
+     * Get JPEG quality of screencast frames.
+     * @return Quality (0-100)
+     */
+    public int getScreencastQuality() {
+        return screencastQuality;
+    }
+    
+    /**
+     * Get maximum screencast frame width in pixels.
+     * @return Maximum frame width
+     */
+    public int getScreencastMaxWidth() {
+        return screencastMaxWidth;
+    }
+    
+    /**
+     * Get maximum screencast frame height in pixels.
+     * @return Maximum frame height
+     */
+    public int getScreencastMaxHeight() {
+        return screencastMaxHeight;
+    }
+    
+    /**
+     * Get screencast frame sampling (only every n-th rendered frame is sent).
+     * @return Frame sampling interval
+     */
+    public int getScreencastEveryNthFrame() {
+        return screencastEveryNthFrame;
+    }
+    
+    /**
+     * Check if Allure results are written asynchronously by a background writer.
+     * @return true if asynchronous results writing is enabled
+     */
+    public boolean isAllureAsyncWriterEnabled() {
+        return allureAsyncWriterEnabled;
+    }
+    
+    /**
+     * Get maximum number of Allure result files waiting to be written.
+     * @return Queue capacity
+     */
+    public int getAllureWriterQueueCapacity() {
+        return allureWriterQueueCapacity;
+    }
+    
+    /**
+     * Get size above which Allure attachments are streamed to disk instead of queued.
+     * @return Streaming threshold in bytes
+     */
+    public int getAllureWriterStreamThresholdBytes() {
+        return allureWriterStreamThresholdBytes;
+    }
+    
+    /**
+     * Get the most detailed step level recorded for passing scenarios (business, page, driver).
+     * @return Step level name
+     */
+    public String getAllureStepLevel() {
+        return allureStepLevel;
+    }
+    
+    /**
+     * Get how steps below the step level are reported for passing scenarios: "aggregate" or "drop".
+     * @return Collapse mode
+     */
+    public String getAllureStepCollapse() {
+        return allureStepCollapse;
+    }
+    
+    /**
+     * Check if latency metrics are recorded for steps, page methods and WebDriver commands.
+     * @return true if metrics are enabled
+     */
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+    
+    /**
+     * Get directory for exported metrics.
+     * @return Metrics directory path
+     */
+    public String getMetricsDirectory() {
+        return metricsDirectory;
+    }
+    
+    /**
+     * Get number of slowest operations shown in the Allure Environment widget.
+     * @return Number of operations
+     */
+    public int getMetricsAllureTop() {
+        return metricsAllureTop;
+    }
+    
+    /**
+     * Check if live suite counters are served over HTTP in the OpenMetrics format.
+     * @return true if the metrics endpoint is enabled
+     */
+    public boolean isMetricsHttpEnabled() {
+        return metricsHttpEnabled;
+    }
+    
+    /**
+     * Get address the metrics endpoint binds to.
+     * @return Host name or IP address
+     */
+    public String getMetricsHttpHost() {
+        return metricsHttpHost;
+    }
+    
+    /**
+     * Get port of the metrics endpoint (0 picks a free port).
+     * @return Port number
+     */
+    public int getMetricsHttpPort() {
+        return metricsHttpPort;
+    }
+    
+    /**
+     * Check if element lookups are timed per locator and ranked at the end of the run.
+     * @return true if the locator profiler is enabled
+     */
+    public boolean isLocatorProfilerEnabled() {
+        return locatorProfilerEnabled;
+    }
+    
+    /**
+     * Get number of most expensive locators logged at the end of the run.
+     * @return Number of locators
+     */
+    public int getLocatorProfilerTop() {
+        return locatorProfilerTop;
+    }
+    
+    /**
+     * Check if custom JFR events (scenarios, steps, driver lifecycle, waits, screenshots) are emitted.
+     * @return true if JFR events are enabled
+     */
+    public boolean isJfrEventsEnabled() {
+        return jfrEventsEnabled;
+    }
+    
+    /**
+     * Check if scenario and step durations are appended to the run history after each run.
+     * @return true if run history is enabled
+     */
+    public boolean isHistoryEnabled() {
+        return historyEnabled;
+    }
+    
+    /**
+     * Get run history file path.
+     * @return History file path
+     */
+    public String getHistoryFile() {
+        return historyFile;
+    }
+    
+    /**
+     * Get maximum size of the run history file in bytes; the oldest runs are dropped above it.
+     * @return History size cap
+     */
+    public long getHistoryMaxBytes() {
+        return historyMaxBytes;
+    }
+    
+    /**
+     * Get commit recorded with the run (defaults to CI variables or git HEAD).
+     * @return Commit id or null if not configured
+     */
+    public String getHistoryCommit() {
+        return historyCommit;
+    }
+    
+    /**
+     * Get number of previous runs used as the regression baseline.
+     * @return Baseline run count
+     */
+    public int getHistoryBaselineRuns() {
+        return historyBaselineRuns;
+    }
+    
+    /**
+     * Get minimum number of baseline samples before a scenario or step is analyzed.
+     * @return Minimum baseline samples
+     */
+    public int getHistoryMinSamples() {
+        return historyMinSamples;
+    }
+    
+    /**
+     * Get significance level for regression tests.
+     * @return Significance level
+     */
+    public double getHistoryAlpha() {
+        return historyAlpha;
+    }
+    
+    /**
+     * Get minimum ratio of current to baseline median reported as a regression.
+     * @return Minimum slowdown ratio
+     */
+    public double getHistoryMinSlowdown() {
+        return historyMinSlowdown;
+    }
+    
+    /**
+     * Get minimum increase of the median in milliseconds reported as a regression.
+     * @return Minimum slowdown in ms
+     */
+    public long getHistoryMinDeltaMillis() {
+        return historyMinDeltaMillis;
+    }
+    
+    /**
+     * Check if the regression analyzer exits with a non-zero status on regressions.
+     * @return true if regressions fail the analyzer
+     */
+    public boolean isHistoryFailOnRegression() {
+        return historyFailOnRegression;
+    }
+    
+    /**
+     * Check if the local DemoQA stand-in server is started with the suite.
+     * @return true if the stub is enabled
+     */
+    public boolean isStubEnabled() {
+        return stubEnabled;
+    }
+    
+    /**
+     * Get address the local DemoQA stub binds to.
+     * @return Host name or IP address
+     */
+    public String getStubHost() {
+        return stubHost;
+    }
+    
+    /**
+     * Get port of the local DemoQA stub.
+     * @return Port number
+     */
+    public int getStubPort() {
+        return stubPort;
+    }
+    
+    /**
+     * Get latency added to every page and asset served by the stub.
+     * @return Latency in milliseconds
+     */
+    public int getStubLatencyMillis() {
+        return stubLatencyMillis;
+    }
+    
+    /**
+     * Get latency added to every BookStore API call served by the stub.
+     * @return Latency in milliseconds
+     */
+    public int getStubApiLatencyMillis() {
+        return stubApiLatencyMillis;
+    }
+    
+    /**
+     * Get upper bound of the random latency added on top of the stub's fixed latency.
+     * @return Jitter in milliseconds
+     */
+    public int getStubLatencyJitterMillis() {
+        return stubLatencyJitterMillis;
+    }
+    
+    /**
+     * Get traffic cache mode: off, record, replay (no network for cacheable requests) or auto.
+     * @return Traffic cache mode
+     */
+    public String getTrafficCacheMode() {
+        return trafficCacheMode;
+    }
+    
+    /**
+     * Get directory of the recorded traffic (HAR index and response blobs).
+     * @return Traffic cache directory path
+     */
+    public String getTrafficCacheDirectory() {
+        return trafficCacheDirectory;
+    }
+    
+    /**
+     * Get patterns of URLs that are never recorded or replayed.
+     * @return Compiled regular expressions, matched anywhere in the URL
+     */
+    public List<Pattern> getTrafficCacheExcludes() {
+        return trafficCacheExcludes;
+    }
+    
+    /**
+     * Check if ad and tracker requests are blocked in the browser (Chromium only).
+     * @return true if network blocking is enabled
+     */
+    public boolean isNetworkBlockingEnabled() {
+        return networkBlockingEnabled;
+    }
+    
+    /**
+     * Get URL patterns of blocked ad and tracker requests.
+     * @return Patterns with '*' wildcards, matched against the full URL
+     */
+    public List<String> getNetworkBlocklist() {
+        return networkBlocklist;
+    }
+    
+    /**
+     * Get resource-light mode: off, tagged (scenarios tagged @no-media) or all (except @visual).
+     * @return Resource-light mode
+     */
+    public String getResourceLightMode() {
+        return resourceLightMode;
+    }
+    
+    /**
+     * Get URL patterns of images, fonts and media blocked in resource-light mode.
+     * @return Patterns with '*' wildcards, matched against the full URL
+     */
+    public List<String> getResourceLightBlocklist() {
+        return resourceLightBlocklist;
+    }
+    
+    /**
+     * Typed property lookup that collects invalid values instead of failing on the first one.
+     */
+    private static final class Values {
+        private final Map<String, String> properties;
+        private final List<String> errors = new ArrayList<>();
+        // Typed settings in declaration order with their resolved values
+        private final Map<String, String> used = new LinkedHashMap<>();
+        
+        private Values(Map<String, String> properties) {
+            this.properties = properties;
+        }
+        
+        String string(String key, String defaultValue) {
+            String value = properties.get(key);
+            String resolved = value != null ? value : defaultValue;
+            used.put(key, String.valueOf(resolved));
+            return resolved;
+        }
+        
+        String oneOf(String key, String defaultValue, String... allowed) {
+            String value = string(key, defaultValue).trim();
+            if (Arrays.stream(allowed).noneMatch(value::equalsIgnoreCase)) {
+                errors.add(key + "=" + value + " (expected one of " + String.join(", ", allowed) + ")");
+            }
+            return value;
+        }
+        
+        boolean bool(String key, boolean defaultValue) {
+            String value = properties.get(key);
+            used.put(key, value != null ? value : String.valueOf(defaultValue));
+            if (value == null) {
+                return defaultValue;
+            }
+            if (!"true".equalsIgnoreCase(value.trim()) && !"false".equalsIgnoreCase(value.trim())) {
+                errors.add(key + "=" + value + " (expected true or false)");
+                return defaultValue;
+            }
+            return Boolean.parseBoolean(value.trim());
+        }
+        
+        int integer(String key, int defaultValue, int min, int max) {
+            return (int) longValue(key, defaultValue, min, max);
+        }
+        
+        long longValue(String key, long defaultValue, long min, long max) {
+            String value = properties.get(key);
+            used.put(key, value != null ? value : String.valueOf(defaultValue));
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                long parsed = Long.parseLong(value.trim());
+                if (parsed >= min && parsed <= max) {
+                    return parsed;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            errors.add(key + "=" + value + " (expected a whole number" + range(min, max) + ")");
+            return defaultValue;
+        }
+        
+        double decimal(String key, double defaultValue, double min, double max) {
+            String value = properties.get(key);
+            used.put(key, value != null ? value : String.valueOf(defaultValue));
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                double parsed = Double.parseDouble(value.trim());
+                if (parsed >= min && parsed <= max) {
+                    return parsed;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+            errors.add(key + "=" + value + " (expected a number" + range(min, max) + ")");
+            return defaultValue;
+        }
+        
+        List<String> list(String key, String defaultValue) {
+            return Arrays.stream(string(key, defaultValue).split(","))
+                    .map(String::trim)
+                    .filter(item -> !item.isEmpty())
+                    .collect(Collectors.toUnmodifiableList());
+        }
+        
+        List<Pattern> patterns(String key, String defaultValue) {
+            List<Pattern> patterns = new ArrayList<>();
+            for (String regex : string(key, defaultValue).split(",")) {
+                if (regex.isBlank()) {
+                    continue;
+                }
+                try {
+                    patterns.add(Pattern.compile(regex.trim()));
+                } catch (PatternSyntaxException e) {
+                    errors.add(key + " contains an invalid pattern: " + regex.trim() + " (" + e.getDescription() + ")");
+                }
+            }
+            return Collections.unmodifiableList(patterns);
+        }
+        
+        private static String range(Number min, Number max) {
+            boolean unbounded = max.longValue() == Long.MAX_VALUE || max.longValue() == Integer.MAX_VALUE
+                    || max.doubleValue() == Double.MAX_VALUE;
+            return unbounded ? " >= " + min : " between " + min + " and " + max;
+        }
+        
+        void validate(List<String> sources) {
+            if (!errors.isEmpty()) {
+                throw new IllegalStateException("Invalid configuration (" + String.join(", ", sources)
+                        + "):\n  " + String.join("\n  ", errors));
+            }
+        }
     }
 }
@@ -0,0 +1,191 @@
+package com.demoqa.driver;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects browser console and network activity through CDP events.
+ * Entries are kept as compact text lines in bounded ring buffers
+ * (oldest entries are dropped first) so a failure bundle can include
+ * what the browser was doing before the failure.
+ * Requests blocked by {@link NetworkBlocker} are left out of the network log,
+ * so blocked ads do not push the useful entries out of the buffer.
+ */
+public class BrowserEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserEventLog.class);
+
+    private final int maxEntries;
+    private final Deque<String> consoleEntries = new ArrayDeque<>();
+    private final Deque<String> networkEntries = new ArrayDeque<>();
+    // URLs of requests in flight by requestId, as Network.loadingFailed only has the id
+    private final Map<Object, String> pendingUrls;
+    private long consoleDropped;
+    private long networkDropped;
+
+    /**
+     * Create an event log.
+     * @param maxEntries Maximum number of entries kept per log
+     */
+    public BrowserEventLog(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.pendingUrls = new LinkedHashMap<>(64, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Subscribe to console and network events of a DevTools session.
+     * @param devTools DevTools session
+     */
+    public void start(DevTools devTools) {
+        devTools.addListener(DevToolsSupport.event("Runtime.consoleAPICalled"), this::onConsoleApiCalled);
+        devTools.addListener(DevToolsSupport.event("Runtime.exceptionThrown"), this::onExceptionThrown);
+        devTools.addListener(DevToolsSupport.event("Log.entryAdded"), this::onLogEntry);
+        devTools.addListener(DevToolsSupport.event("Network.requestWillBeSent"), this::onRequest);
+        devTools.addListener(DevToolsSupport.event("Network.responseReceived"), this::onResponse);
+        devTools.addListener(DevToolsSupport.event("Network.loadingFinished"), this::onLoadingFinished);
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), this::onLoadingFailed);
+
+        devTools.send(DevToolsSupport.command("Runtime.enable", new HashMap<>()));
+        devTools.send(DevToolsSupport.command("Log.enable", new HashMap<>()));
+        Map<String, Object> networkParams = new HashMap<>();
+        networkParams.put("maxTotalBufferSize", 0);
+        networkParams.put("maxResourceBufferSize", 0);
+        devTools.send(DevToolsSupport.command("Network.enable", networkParams));
+
+        logger.info("Browser console and network logging started (max {} entries per log)", maxEntries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onConsoleApiCalled(Map<String, Object> event) {
+        StringBuilder text = new StringBuilder();
+        for (Map<String, Object> arg : (List<Map<String, Object>>) event.getOrDefault("args", List.of())) {
+            Object value = arg.containsKey("value") ? arg.get("value") : arg.get("description");
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+            text.append(value);
+        }
+        addConsole(String.format("%s %-7s %s", Instant.now(), upper(event.get("type")), text));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onExceptionThrown(Map<String, Object> event) {
+        Map<String, Object> details = (Map<String, Object>) event.getOrDefault("exceptionDetails", Map.of());
+        Map<String, Object> exception = (Map<String, Object>) details.get("exception");
+        Object description = exception != null ? exception.get("description") : details.get("text");
+        addConsole(String.format("%s %-7s %s", Instant.now(), "EXCEPTION", description));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onLogEntry(Map<String, Object> event) {
+        Map<String, Object> entry = (Map<String, Object>) event.getOrDefault("entry", Map.of());
+        addConsole(String.format("%s %-7s [%s] %s %s", Instant.now(), upper(entry.get("level")),
+                entry.get("source"), entry.get("text"), entry.getOrDefault("url", "")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequest(Map<String, Object> event) {
+        Map<String, Object> request = (Map<String, Object>) event.getOrDefault("request", Map.of());
+        synchronized (this) {
+            pendingUrls.put(event.get("requestId"), String.valueOf(request.get("url")));
+        }
+        addNetwork(String.format("%s REQ  %s %s", Instant.now(), request.get("method"), request.get("url")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponse(Map<String, Object> event) {
+        Map<String, Object> response = (Map<String, Object>) event.getOrDefault("response", Map.of());
+        addNetwork(String.format("%s RES  %s %s (%s, %s)", Instant.now(), response.get("status"),
+                response.get("url"), event.get("type"), response.get("mimeType")));
+    }
+
+    private synchronized void onLoadingFinished(Map<String, Object> event) {
+        pendingUrls.remove(event.get("requestId"));
+    }
+
+    private void onLoadingFailed(Map<String, Object> event) {
+        String url;
+        synchronized (this) {
+            url = pendingUrls.remove(event.get("requestId"));
+        }
+        if ("inspector".equals(event.get("blockedReason"))) {
+            // Blocked on purpose by NetworkBlocker (Network.setBlockedURLs)
+            return;
+        }
+        addNetwork(String.format("%s FAIL %s %s %s%s", Instant.now(), event.get("type"),
+                url != null ? url : "request " + event.get("requestId"), event.get("errorText"),
+                Boolean.TRUE.equals(event.get("canceled")) ? " (canceled)" : ""));
+    }
+
+    private static String upper(Object value) {
+        return value != null ? value.toString().toUpperCase() : "";
+    }
+
+    private synchronized void addConsole(String line) {
+        consoleEntries.addLast(line);
+        if (consoleEntries.size() > maxEntries) {
+            consoleEntries.removeFirst();
+            consoleDropped++;
+        }
+    }
+
+    private synchronized void addNetwork(String line) {
+        networkEntries.addLast(line);
+        if (networkEntries.size() > maxEntries) {
+            networkEntries.removeFirst();
+            networkDropped++;
+        }
+    }
+
+    /**
+     * Get console log as text (one entry per line).
+     * @return Console log
+     */
+    public synchronized String getConsoleLog() {
+        return format(consoleEntries, consoleDropped);
+    }
+
+    /**
+     * Get network log as text (one entry per line).
+     * @return Network log
+     */
+    public synchronized String getNetworkLog() {
+        return format(networkEntries, networkDropped);
+    }
+
+    private static String format(Deque<String> entries, long dropped) {
+        StringBuilder text = new StringBuilder();
+        if (dropped > 0) {
+            text.append("... ").append(dropped).append(" earlier entries dropped\n");
+        }
+        for (String entry : entries) {
+            text.append(entry).append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Discard all collected entries.
+     */
+    public synchronized void clear() {
+        consoleEntries.clear();
+        networkEntries.clear();
+        pendingUrls.clear();
+        consoleDropped = 0;
+        networkDropped = 0;
+    }
+}
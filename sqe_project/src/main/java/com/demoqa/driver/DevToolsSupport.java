@@ -0,0 +1,65 @@
+package com.demoqa.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Helper for Chrome DevTools Protocol (CDP) access.
+ * Uses raw CDP method names so it works with any Chromium version,
+ * not only the versions bundled with the Selenium devtools artifacts.
+ */
+public final class DevToolsSupport {
+
+    private DevToolsSupport() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check if the driver exposes a DevTools connection (Chrome and Edge).
+     * @param driver WebDriver instance
+     * @return true if CDP is available
+     */
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * Open (or reuse) the DevTools session of a driver.
+     * @param driver WebDriver instance
+     * @return DevTools session, or empty if the browser has no CDP support
+     */
+    public static Optional<DevTools> openSession(WebDriver driver) {
+        if (!isSupported(driver)) {
+            return Optional.empty();
+        }
+        Optional<DevTools> devTools = ((HasDevTools) driver).maybeGetDevTools();
+        devTools.ifPresent(DevTools::createSessionIfThereIsNotOne);
+        return devTools;
+    }
+
+    /**
+     * Create a raw CDP command that returns its result as a map.
+     * @param method CDP method, e.g. "Page.startScreencast"
+     * @param params Command parameters
+     * @return Command ready to be sent through {@link DevTools#send(Command)}
+     */
+    public static Command<Map<String, Object>> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params, input -> input.read(Json.MAP_TYPE));
+    }
+
+    /**
+     * Create a raw CDP event whose payload is delivered as a map.
+     * @param method CDP event, e.g. "Page.screencastFrame"
+     * @return Event ready to be passed to {@link DevTools#addListener(Event, java.util.function.Consumer)}
+     */
+    public static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+}
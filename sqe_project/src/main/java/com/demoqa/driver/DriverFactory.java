@@ -1,7 +1,15 @@
 package com.demoqa.driver;
 
 import com.demoqa.config.ConfigurationManager;
+import com.demoqa.jfr.DriverEvent;
+import com.demoqa.jfr.FlightEvents;
+import com.demoqa.metrics.DriverCommandTimer;
+import com.demoqa.metrics.LocatorProfiler;
+import com.demoqa.metrics.MetricsRegistry;
+import com.demoqa.metrics.SuiteCounters;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -9,10 +17,17 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Factory class for WebDriver management.
@@ -22,6 +37,11 @@ public class DriverFactory {
     
     private static final Logger logger = LoggerFactory.getLogger(DriverFactory.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<ScreencastRecorder> screencastThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserEventLog> eventLogThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<NetworkBlocker> networkBlockerThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> reuseCountThreadLocal = ThreadLocal.withInitial(() -> 0);
+    private static final Set<WebDriver> pooledDrivers = ConcurrentHashMap.newKeySet();
     private static final ConfigurationManager config = ConfigurationManager.getInstance();
     
     private DriverFactory() {
@@ -49,13 +69,123 @@ public class DriverFactory {
         
         logger.info("Initializing {} browser (headless: {})", browserName, headless);
         
-        WebDriver driver = createDriver(browserType, headless);
+        DriverEvent event = FlightEvents.isEnabled() ? new DriverEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        
+        WebDriver driver;
+        try {
+            driver = createDriver(browserType, headless);
+        } catch (RuntimeException e) {
+            SuiteCounters.browserFailed();
+            throw e;
+        }
+        SuiteCounters.browserCreated();
         configureDriver(driver);
+        
+        // CDP sessions are opened on the undecorated driver
+        if (config.isScreencastEnabled()) {
+            startScreencast(driver);
+        }
+        if (config.isFailureBundleEnabled()) {
+            startEventLog(driver);
+        }
+        if (!"off".equalsIgnoreCase(config.getTrafficCacheMode())) {
+            startTrafficCache(driver);
+        }
+        if (config.isNetworkBlockingEnabled() || !"off".equalsIgnoreCase(config.getResourceLightMode())) {
+            startNetworkBlocker(driver);
+        }
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (MetricsRegistry.isEnabled()) {
+            listeners.add(new DriverCommandTimer());
+        }
+        if (config.isLocatorProfilerEnabled()) {
+            listeners.add(LocatorProfiler.getInstance());
+        }
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
         driverThreadLocal.set(driver);
+        reuseCountThreadLocal.set(0);
+        if (config.isDriverPoolEnabled()) {
+            pooledDrivers.add(driver);
+        }
         
+        if (event != null) {
+            event.action = "create";
+            event.browser = browserName;
+            event.headless = headless;
+            event.commit();
+        }
         logger.info("Browser initialized successfully");
     }
     
+    /**
+     * Start failure-only screencast recording for Chromium based browsers.
+     */
+    private static void startScreencast(WebDriver driver) {
+        try {
+            DevToolsSupport.openSession(driver).ifPresentOrElse(devTools -> {
+                ScreencastRecorder recorder = new ScreencastRecorder(devTools,
+                        config.getScreencastMaxFrames(), config.getScreencastMaxBytes());
+                recorder.start(config.getScreencastQuality(), config.getScreencastMaxWidth(),
+                        config.getScreencastMaxHeight(), config.getScreencastEveryNthFrame());
+                screencastThreadLocal.set(recorder);
+            }, () -> logger.warn("Screencast recording requires a Chromium based browser, skipping"));
+        } catch (Exception e) {
+            logger.warn("Could not start screencast recording: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Start collecting browser console and network events for failure bundles.
+     */
+    private static void startEventLog(WebDriver driver) {
+        try {
+            DevToolsSupport.openSession(driver).ifPresentOrElse(devTools -> {
+                BrowserEventLog eventLog = new BrowserEventLog(config.getBrowserLogMaxEntries());
+                eventLog.start(devTools);
+                eventLogThreadLocal.set(eventLog);
+            }, () -> logger.warn("Console and network logging requires a Chromium based browser, skipping"));
+        } catch (Exception e) {
+            logger.warn("Could not start console and network logging: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Start recording or replaying the browser's traffic.
+     */
+    private static void startTrafficCache(WebDriver driver) {
+        try {
+            DevToolsSupport.openSession(driver).ifPresentOrElse(devTools -> {
+                TrafficCache trafficCache = new TrafficCache(devTools, TrafficStore.getInstance(),
+                        config.getTrafficCacheMode(), config.getTrafficCacheExcludes());
+                trafficCache.start();
+            }, () -> logger.warn("Traffic record/replay requires a Chromium based browser, skipping"));
+        } catch (Exception e) {
+            logger.warn("Could not start traffic record/replay: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Block ad and tracker requests before the browser sends them, and prepare resource-light mode.
+     */
+    private static void startNetworkBlocker(WebDriver driver) {
+        try {
+            DevToolsSupport.openSession(driver).ifPresentOrElse(devTools -> {
+                NetworkBlocker blocker = new NetworkBlocker(devTools,
+                        config.isNetworkBlockingEnabled() ? config.getNetworkBlocklist() : List.of(),
+                        config.getResourceLightBlocklist());
+                blocker.start();
+                networkBlockerThreadLocal.set(blocker);
+            }, () -> logger.warn("Network blocking requires a Chromium based browser, skipping"));
+        } catch (Exception e) {
+            logger.warn("Could not start network blocking: {}", e.getMessage());
+        }
+    }
+    
     /**
      * Create WebDriver instance based on browser type.
      */
@@ -83,6 +213,10 @@ public class DriverFactory {
         options.addArguments("--disable-notifications");
         options.addArguments("--disable-popup-blocking");
         options.addArguments("--remote-allow-origins=*");
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(config.getPageLoadStrategy()));
+        if (config.isBlockImages()) {
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
         
         if (headless) {
             options.addArguments("--headless=new");
@@ -99,6 +233,10 @@ public class DriverFactory {
         WebDriverManager.firefoxdriver().setup();
         
         FirefoxOptions options = new FirefoxOptions();
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(config.getPageLoadStrategy()));
+        if (config.isBlockImages()) {
+            options.addPreference("permissions.default.image", 2);
+        }
         
         if (headless) {
             options.addArguments("--headless");
@@ -118,6 +256,10 @@ public class DriverFactory {
         EdgeOptions options = new EdgeOptions();
         options.addArguments("--start-maximized");
         options.addArguments("--disable-notifications");
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(config.getPageLoadStrategy()));
+        if (config.isBlockImages()) {
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
         
         if (headless) {
             options.addArguments("--headless=new");
@@ -142,9 +284,153 @@ public class DriverFactory {
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
+            ScreencastRecorder recorder = screencastThreadLocal.get();
+            if (recorder != null) {
+                recorder.stop();
+                screencastThreadLocal.remove();
+            }
+            eventLogThreadLocal.remove();
+            networkBlockerThreadLocal.remove();
             logger.info("Closing browser");
-            driver.quit();
-            driverThreadLocal.remove();
+            DriverEvent event = FlightEvents.isEnabled() ? new DriverEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            try {
+                driver.quit();
+            } finally {
+                driverThreadLocal.remove();
+                pooledDrivers.remove(driver);
+                SuiteCounters.browserQuit();
+            }
+            if (event != null) {
+                event.action = "quit";
+                event.browser = config.getBrowser();
+                event.headless = config.isHeadless();
+                event.commit();
+            }
+        }
+    }
+    
+    /**
+     * Release the current thread's browser at the end of a scenario.
+     * With driver.pool.enabled the browser of a passing scenario is reset (cookies, storage,
+     * blank page unless navigation.reuse keeps the last page) and kept for the thread's next scenario,
+     * up to driver.pool.max.reuse times.
+     * Otherwise, or after a failure, the browser is quit.
+     *
+     * @param failed true if the scenario failed
+     */
+    public static void releaseDriver(boolean failed) {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver == null) {
+            return;
+        }
+        int reuseCount = reuseCountThreadLocal.get();
+        if (!config.isDriverPoolEnabled() || failed || reuseCount >= config.getDriverPoolMaxReuse()) {
+            quitDriver();
+            return;
+        }
+        try {
+            resetBrowser(driver);
+            reuseCountThreadLocal.set(reuseCount + 1);
+            SuiteCounters.browserReused();
+            logger.info("Browser kept for the next scenario (reused {} times)", reuseCount + 1);
+        } catch (Exception e) {
+            logger.warn("Could not reset browser for reuse, closing it: {}", e.getMessage());
+            quitDriver();
+        }
+    }
+    
+    /**
+     * Remove scenario state from a pooled browser.
+     */
+    private static void resetBrowser(WebDriver driver) {
+        ScreencastRecorder recorder = screencastThreadLocal.get();
+        if (recorder != null) {
+            recorder.clear();
+        }
+        BrowserEventLog eventLog = eventLogThreadLocal.get();
+        if (eventLog != null) {
+            eventLog.clear();
+        }
+        if (driver.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) driver).executeScript(
+                    "window.localStorage.clear(); window.sessionStorage.clear();");
+        }
+        driver.manage().deleteAllCookies();
+        if (!config.isNavigationReuse()) {
+            driver.get("about:blank");
+        }
+    }
+    
+    /**
+     * Quit all pooled browsers at the end of the run, including those of other threads.
+     */
+    public static void quitPooledDrivers() {
+        quitDriver();
+        for (WebDriver driver : pooledDrivers) {
+            try {
+                driver.quit();
+                SuiteCounters.browserQuit();
+            } catch (Exception e) {
+                logger.debug("Could not quit pooled browser: {}", e.getMessage());
+            }
+        }
+        pooledDrivers.clear();
+    }
+    
+    /**
+     * Get screencast recorder of the current thread's browser.
+     * @return ScreencastRecorder or null if recording is disabled
+     */
+    public static ScreencastRecorder getScreencastRecorder() {
+        return screencastThreadLocal.get();
+    }
+    
+    /**
+     * Get console and network event log of the current thread's browser.
+     * @return BrowserEventLog or null if failure bundles are disabled
+     */
+    public static BrowserEventLog getBrowserEventLog() {
+        return eventLogThreadLocal.get();
+    }
+    
+    /**
+     * Get network blocker of the current thread's browser.
+     * @return NetworkBlocker or null if blocking is disabled or not supported by the browser
+     */
+    public static NetworkBlocker getNetworkBlocker() {
+        return networkBlockerThreadLocal.get();
+    }
+    
+    /**
+     * Check if the current thread's browser blocks ad and tracker requests.
+     * @return true if ads never load, so they need no removal from the page
+     */
+    public static boolean isNetworkBlockingActive() {
+        NetworkBlocker blocker = networkBlockerThreadLocal.get();
+        return blocker != null && blocker.isBlockingAds();
+    }
+    
+    /**
+     * Switch resource-light mode of the current thread's browser for the next scenario.
+     * Only Chromium based browsers support it; others always load everything.
+     *
+     * @param enabled true to block images, fonts and media and turn off animations
+     */
+    public static void setResourceLight(boolean enabled) {
+        NetworkBlocker blocker = networkBlockerThreadLocal.get();
+        if (blocker == null) {
+            if (enabled) {
+                logger.debug("Resource-light mode requires a Chromium based browser, loading everything");
+            }
+            return;
+        }
+        try {
+            blocker.setResourceLight(enabled);
+        } catch (Exception e) {
+            logger.warn("Could not switch resource-light mode: {}", e.getMessage());
         }
     }
     
@@ -0,0 +1,170 @@
+package com.demoqa.driver;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.metrics.SuiteCounters;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks ad and tracker requests in the browser before they are sent (CDP Network.setBlockedURLs),
+ * instead of removing the ads from the DOM after they have been downloaded and run.
+ * The empty ad containers the site still renders are hidden by a stylesheet injected into every
+ * new document, so page objects do not need to clean up after each navigation.
+ * <p>
+ * In resource-light mode, switched per scenario, images, fonts and media are blocked as well, and
+ * animations, transitions and smooth scrolling are turned off (reduced motion, zero-length CSS timings).
+ * Scenarios tagged @visual always keep full fidelity.
+ */
+public class NetworkBlocker {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    /**
+     * Containers the site reserves for ads, hidden when blocking is active (removed by the DOM fallback).
+     */
+    public static final String AD_CONTAINERS = "[id*=\"google_ads\"], [id*=\"fixedban\"], .ad-container";
+
+    private static final String HIDE_AD_CONTAINERS = "document.addEventListener('DOMContentLoaded', function () {"
+            + " var style = document.createElement('style');"
+            + " style.textContent = '" + AD_CONTAINERS + " { display: none !important; }';"
+            + " document.head.appendChild(style); });";
+    // Near-zero rather than zero timings, so animationend/transitionend handlers still run
+    private static final String NO_MOTION = "(function () {"
+            + " var style = document.createElement('style');"
+            + " style.textContent = '*, *::before, *::after { animation-duration: 0.001ms !important;"
+            + " animation-delay: 0s !important; animation-iteration-count: 1 !important;"
+            + " transition-duration: 0.001ms !important; transition-delay: 0s !important;"
+            + " scroll-behavior: auto !important; }';"
+            + " var target = document.head || document.documentElement;"
+            + " if (target) { target.appendChild(style); } else {"
+            + " document.addEventListener('DOMContentLoaded', function () { document.head.appendChild(style); }); }"
+            + " })();";
+    private static final String NO_MEDIA_TAG = "@no-media";
+    private static final String VISUAL_TAG = "@visual";
+
+    private final DevTools devTools;
+    private final List<String> adPatterns;
+    private final List<String> lightPatterns;
+    private boolean blockingAds;
+    private boolean resourceLight;
+    private String noMotionScript;
+
+    /**
+     * Create a blocker for one browser.
+     * @param devTools      DevTools session of the browser
+     * @param adPatterns    URL patterns of ads and trackers ('*' wildcards), empty to load them
+     * @param lightPatterns URL patterns blocked in resource-light mode
+     */
+    public NetworkBlocker(DevTools devTools, List<String> adPatterns, List<String> lightPatterns) {
+        this.devTools = devTools;
+        this.adPatterns = adPatterns;
+        this.lightPatterns = lightPatterns;
+    }
+
+    /**
+     * Decide whether a scenario runs in resource-light mode (resource.light.mode):
+     * off never, tagged for scenarios tagged @no-media, all for every scenario.
+     * Scenarios tagged @visual always load everything.
+     *
+     * @param tags Scenario tags (with leading @)
+     * @return true to block images, fonts and media and turn off animations
+     */
+    public static boolean isResourceLight(Collection<String> tags) {
+        String mode = ConfigurationManager.getInstance().getResourceLightMode();
+        if ("off".equalsIgnoreCase(mode) || tags.contains(VISUAL_TAG)) {
+            return false;
+        }
+        return "all".equalsIgnoreCase(mode) || tags.contains(NO_MEDIA_TAG);
+    }
+
+    /**
+     * Start blocking and count every request the browser blocks.
+     */
+    public void start() {
+        devTools.addListener(DevToolsSupport.event("Network.loadingFailed"), event -> {
+            if ("inspector".equals(event.get("blockedReason"))) {
+                SuiteCounters.requestBlocked();
+            }
+        });
+        Map<String, Object> networkParams = new HashMap<>();
+        networkParams.put("maxTotalBufferSize", 0);
+        networkParams.put("maxResourceBufferSize", 0);
+        devTools.send(DevToolsSupport.command("Network.enable", networkParams));
+        if (!adPatterns.isEmpty()) {
+            setBlocking(true);
+            devTools.send(DevToolsSupport.command("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", HIDE_AD_CONTAINERS)));
+            logger.info("Network blocking started ({} URL patterns)", adPatterns.size());
+        }
+    }
+
+    /**
+     * Turn ad and tracker blocking on or off for subsequent requests.
+     * @param enabled true to block the configured ad patterns
+     */
+    public void setBlocking(boolean enabled) {
+        blockingAds = enabled && !adPatterns.isEmpty();
+        applyBlockedUrls();
+    }
+
+    /**
+     * Check if ads and trackers are currently blocked.
+     * @return true if ad requests never reach the network
+     */
+    public boolean isBlockingAds() {
+        return blockingAds;
+    }
+
+    /**
+     * Switch resource-light mode for subsequent page loads.
+     * @param enabled true to block images, fonts and media and turn off animations and smooth scrolling
+     */
+    public void setResourceLight(boolean enabled) {
+        if (enabled == resourceLight) {
+            return;
+        }
+        resourceLight = enabled;
+        applyBlockedUrls();
+        Map<String, Object> media = new HashMap<>();
+        media.put("media", "");
+        media.put("features", enabled
+                ? List.of(Map.of("name", "prefers-reduced-motion", "value", "reduce")) : List.of());
+        devTools.send(DevToolsSupport.command("Emulation.setEmulatedMedia", media));
+        if (enabled) {
+            Map<String, Object> result = devTools.send(DevToolsSupport.command(
+                    "Page.addScriptToEvaluateOnNewDocument", Map.of("source", NO_MOTION)));
+            noMotionScript = String.valueOf(result.get("identifier"));
+        } else if (noMotionScript != null) {
+            devTools.send(DevToolsSupport.command("Page.removeScriptToEvaluateOnNewDocument",
+                    Map.of("identifier", noMotionScript)));
+            noMotionScript = null;
+        }
+        logger.debug("Resource-light mode {}", enabled ? "on" : "off");
+    }
+
+    private void applyBlockedUrls() {
+        List<String> urls = new ArrayList<>();
+        if (blockingAds) {
+            urls.addAll(adPatterns);
+        }
+        if (resourceLight) {
+            urls.addAll(lightPatterns);
+        }
+        devTools.send(DevToolsSupport.command("Network.setBlockedURLs", Map.of("urls", urls)));
+    }
+
+    /**
+     * Bypass the browser cache, e.g. to measure cold page loads.
+     * @param disabled true to load every resource from the network
+     */
+    public void setCacheDisabled(boolean disabled) {
+        devTools.send(DevToolsSupport.command("Network.setCacheDisabled", Map.of("cacheDisabled", disabled)));
+    }
+}
@@ -0,0 +1,279 @@
+package com.demoqa.driver;
+
+import io.qameta.allure.Allure;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records a Chrome session through CDP Page.screencastFrame events.
+ * Frames are kept in a bounded in-memory ring buffer (oldest frames are evicted
+ * first) and are only decoded and encoded into an animated GIF when requested,
+ * which normally happens for failed scenarios only.
+ */
+public class ScreencastRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreencastRecorder.class);
+
+    private final DevTools devTools;
+    private final int maxFrames;
+    private final long maxBytes;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private long bufferedBytes;
+    private long framesReceived;
+    private long framesEvicted;
+    private long handlerNanos;
+    private volatile boolean recording;
+
+    /**
+     * Single JPEG frame as delivered by CDP (still Base64 encoded).
+     */
+    private static final class Frame {
+        private final String data;
+        private final double timestamp;
+
+        private Frame(String data, double timestamp) {
+            this.data = data;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Create a recorder for a DevTools session.
+     * @param devTools DevTools session of the browser to record
+     * @param maxFrames Maximum number of frames kept in memory
+     * @param maxBytes Maximum number of encoded frame bytes kept in memory
+     */
+    public ScreencastRecorder(DevTools devTools, int maxFrames, long maxBytes) {
+        this.devTools = devTools;
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Start streaming frames from the browser.
+     * @param quality JPEG quality (0-100)
+     * @param maxWidth Maximum frame width in pixels
+     * @param maxHeight Maximum frame height in pixels
+     * @param everyNthFrame Only every n-th rendered frame is sent by the browser
+     */
+    public void start(int quality, int maxWidth, int maxHeight, int everyNthFrame) {
+        devTools.addListener(DevToolsSupport.event("Page.screencastFrame"), this::onFrame);
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", "jpeg");
+        params.put("quality", quality);
+        params.put("maxWidth", maxWidth);
+        params.put("maxHeight", maxHeight);
+        params.put("everyNthFrame", everyNthFrame);
+        devTools.send(DevToolsSupport.command("Page.startScreencast", params));
+        recording = true;
+
+        logger.info("Screencast started (max {} frames / {} bytes)", maxFrames, maxBytes);
+    }
+
+    /**
+     * Stop streaming frames. Buffered frames stay available for encoding.
+     */
+    public void stop() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        try {
+            devTools.send(DevToolsSupport.command("Page.stopScreencast", new HashMap<>()));
+        } catch (Exception e) {
+            logger.debug("Could not stop screencast: {}", e.getMessage());
+        }
+        logger.debug("Screencast stopped: {}", getStats());
+    }
+
+    /**
+     * Handle a single screencast frame (runs on the CDP connection thread).
+     */
+    private void onFrame(Map<String, Object> event) {
+        long start = System.nanoTime();
+
+        // Every frame must be acknowledged, otherwise the browser stops sending
+        Map<String, Object> ack = new HashMap<>();
+        ack.put("sessionId", event.get("sessionId"));
+        try {
+            devTools.send(DevToolsSupport.command("Page.screencastFrameAck", ack));
+        } catch (Exception e) {
+            logger.debug("Could not acknowledge screencast frame: {}", e.getMessage());
+        }
+
+        if (recording) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> metadata = (Map<String, Object>) event.get("metadata");
+            Object timestamp = metadata != null ? metadata.get("timestamp") : null;
+            String data = (String) event.get("data");
+            addFrame(new Frame(data, timestamp instanceof Number ? ((Number) timestamp).doubleValue() : 0));
+        }
+
+        synchronized (this) {
+            handlerNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Add a frame to the ring buffer, evicting the oldest frames over the caps.
+     */
+    private synchronized void addFrame(Frame frame) {
+        framesReceived++;
+        frames.addLast(frame);
+        bufferedBytes += frame.data.length();
+
+        while (frames.size() > 1 && (frames.size() > maxFrames || bufferedBytes > maxBytes)) {
+            Frame evicted = frames.removeFirst();
+            bufferedBytes -= evicted.data.length();
+            framesEvicted++;
+        }
+    }
+
+    /**
+     * Discard buffered frames, e.g. when the browser is reused for the next scenario.
+     */
+    public synchronized void clear() {
+        frames.clear();
+        bufferedBytes = 0;
+    }
+
+    /**
+     * Get number of frames currently buffered.
+     * @return Frame count
+     */
+    public synchronized int getFrameCount() {
+        return frames.size();
+    }
+
+    /**
+     * Get recording overhead statistics.
+     * @return Human readable statistics
+     */
+    public synchronized String getStats() {
+        return String.format("frames received: %d, buffered: %d, evicted: %d, buffered bytes: %d, "
+                        + "handler time: %d ms",
+                framesReceived, frames.size(), framesEvicted, bufferedBytes, handlerNanos / 1_000_000);
+    }
+
+    /**
+     * Encode buffered frames into an animated GIF.
+     * Frame delays follow the original frame timestamps.
+     * @return GIF bytes, or empty array if no frames were recorded
+     * @throws IOException if encoding fails
+     */
+    public byte[] encodeGif() throws IOException {
+        List<Frame> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(frames);
+        }
+        if (snapshot.isEmpty()) {
+            return new byte[0];
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(ios);
+            writer.prepareWriteSequence(null);
+
+            for (int i = 0; i < snapshot.size(); i++) {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(
+                        Base64.getDecoder().decode(snapshot.get(i).data)));
+                if (image == null) {
+                    continue;
+                }
+                double next = i + 1 < snapshot.size() ? snapshot.get(i + 1).timestamp : snapshot.get(i).timestamp + 1;
+                int delayCentis = (int) Math.max(2, Math.min(500, (next - snapshot.get(i).timestamp) * 100));
+
+                IIOMetadata metadata = writer.getDefaultImageMetadata(
+                        ImageTypeSpecifier.createFromRenderedImage(image), null);
+                configureFrameMetadata(metadata, delayCentis, i == 0);
+                writer.writeToSequence(new IIOImage(image, null, metadata), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Set frame delay and (for the first frame) infinite looping.
+     */
+    private void configureFrameMetadata(IIOMetadata metadata, int delayCentis, boolean firstFrame)
+            throws IOException {
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = childNode(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", String.valueOf(delayCentis));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (firstFrame) {
+            IIOMetadataNode extensions = childNode(root, "ApplicationExtensions");
+            IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+            loop.setAttribute("applicationID", "NETSCAPE");
+            loop.setAttribute("authenticationCode", "2.0");
+            loop.setUserObject(new byte[]{0x1, 0x0, 0x0});
+            extensions.appendChild(loop);
+        }
+        metadata.setFromTree(format, root);
+    }
+
+    private IIOMetadataNode childNode(IIOMetadataNode root, String name) {
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) node;
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+
+    /**
+     * Encode the buffer and attach it to the Allure report.
+     * @param name Attachment name
+     */
+    public void attachToAllure(String name) {
+        try {
+            long start = System.nanoTime();
+            byte[] gif = encodeGif();
+            if (gif.length == 0) {
+                logger.warn("No screencast frames recorded for: {}", name);
+                return;
+            }
+            Allure.addAttachment(name, "image/gif", new ByteArrayInputStream(gif), ".gif");
+            logger.info("Screencast attached to Allure: {} ({} bytes, encoded in {} ms, {})",
+                    name, gif.length, (System.nanoTime() - start) / 1_000_000, getStats());
+        } catch (Exception e) {
+            logger.error("Failed to attach screencast to Allure", e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.demoqa.driver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Authenticated browser state of one site: cookies plus localStorage and sessionStorage.
+ * Captured once after a UI login and restored into later browsers, so they start out logged in.
+ */
+public final class SessionSnapshot {
+
+    private static final String READ_STORAGE = "function copy(storage) { var items = {};"
+            + " for (var i = 0; i < storage.length; i++) {"
+            + " var key = storage.key(i); items[key] = storage.getItem(key); }"
+            + " return items; }"
+            + " return [copy(window.localStorage), copy(window.sessionStorage)];";
+    private static final String WRITE_STORAGE = "var local = arguments[0], session = arguments[1];"
+            + " Object.keys(local).forEach(function (key) { window.localStorage.setItem(key, local[key]); });"
+            + " Object.keys(session).forEach(function (key) { window.sessionStorage.setItem(key, session[key]); });";
+
+    private final String origin;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final Instant capturedAt;
+
+    private SessionSnapshot(String origin, Set<Cookie> cookies, Map<String, String> localStorage,
+                            Map<String, String> sessionStorage) {
+        this.origin = origin;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+        this.capturedAt = Instant.now();
+    }
+
+    /**
+     * Capture the state of the site the browser is on.
+     * @param driver WebDriver instance
+     * @return Snapshot of cookies and storage
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        List<Map<String, Object>> storage = (List<Map<String, Object>>)
+                ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        return new SessionSnapshot(originOf(driver.getCurrentUrl()), Set.copyOf(driver.manage().getCookies()),
+                toStrings(storage.get(0)), toStrings(storage.get(1)));
+    }
+
+    /**
+     * Put the captured cookies and storage into a browser. Cookies and storage can only be set for
+     * the site the browser is on, so a browser elsewhere first loads restorePath of the site.
+     *
+     * @param driver      WebDriver instance
+     * @param restorePath Lightweight path of the site to load if the browser is not on it
+     */
+    public void restore(WebDriver driver, String restorePath) {
+        if (!originOf(driver.getCurrentUrl()).equals(origin)) {
+            driver.get(origin + restorePath);
+        }
+        WebDriver.Options options = driver.manage();
+        cookies.forEach(options::addCookie);
+        if (!localStorage.isEmpty() || !sessionStorage.isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, localStorage, sessionStorage);
+        }
+    }
+
+    /**
+     * Check if the snapshot is older than the TTL or one of its cookies has expired.
+     * @param ttl Maximum age
+     * @return true if it should not be restored any more
+     */
+    public boolean isExpired(Duration ttl) {
+        Date now = new Date();
+        return capturedAt.plus(ttl).isBefore(now.toInstant())
+                || cookies.stream().anyMatch(cookie -> cookie.getExpiry() != null && cookie.getExpiry().before(now));
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    private static String originOf(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return "";
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static Map<String, String> toStrings(Map<String, Object> items) {
+        Map<String, String> copy = new LinkedHashMap<>();
+        items.forEach((key, value) -> copy.put(key, String.valueOf(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+}
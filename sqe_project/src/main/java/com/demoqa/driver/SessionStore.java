@@ -0,0 +1,116 @@
+package com.demoqa.driver;
+
+import com.demoqa.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session snapshots of logged-in accounts, shared by all browsers of the JVM.
+ * An account is logged in through the UI once; later scenarios restore its snapshot instead,
+ * until it is older than session.snapshot.ttl.minutes or the site rejects it.
+ * Snapshots are keyed by account and password, so a login with another (e.g. a wrong) password
+ * never restores the session of a successful one.
+ */
+public final class SessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStore.class);
+
+    private final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final AtomicLong restored = new AtomicLong();
+    private final AtomicLong captured = new AtomicLong();
+    private final AtomicLong invalidated = new AtomicLong();
+
+    private static final class Holder {
+        private static final SessionStore INSTANCE =
+                new SessionStore(Duration.ofMinutes(ConfigurationManager.getInstance().getSessionSnapshotTtlMinutes()));
+    }
+
+    private SessionStore(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * Get the shared store.
+     * @return SessionStore instance
+     */
+    public static SessionStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Get the snapshot of an account if it can still be restored.
+     * Expired snapshots are dropped.
+     *
+     * @param account  Account name
+     * @param password Password the snapshot was captured with
+     * @return Snapshot, or null if the account has to log in
+     */
+    public SessionSnapshot get(String account, String password) {
+        String key = key(account, password);
+        SessionSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.isExpired(ttl)) {
+            snapshots.remove(key, snapshot);
+            logger.debug("Session snapshot of {} expired", account);
+            return null;
+        }
+        if (snapshot != null) {
+            restored.incrementAndGet();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Save the snapshot taken after a successful login.
+     * @param account  Account name
+     * @param password Password of the login
+     * @param snapshot Captured session
+     */
+    public void put(String account, String password, SessionSnapshot snapshot) {
+        snapshots.put(key(account, password), snapshot);
+        captured.incrementAndGet();
+    }
+
+    /**
+     * Drop the snapshot of an account, e.g. when the site no longer accepts it.
+     * @param account  Account name
+     * @param password Password the snapshot was captured with
+     */
+    public void invalidate(String account, String password) {
+        if (snapshots.remove(key(account, password)) != null) {
+            invalidated.incrementAndGet();
+            logger.info("Session snapshot of {} was rejected, logging in again", account);
+        }
+    }
+
+    /**
+     * Key of an account's snapshot; the password is hashed so the store does not keep it.
+     */
+    private static String key(String account, String password) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(password).getBytes(StandardCharsets.UTF_8));
+            return account + '\n' + Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Summarize snapshot use of this run.
+     * @return Counts of captured, restored and invalidated snapshots
+     */
+    public String getStats() {
+        return String.format("%d captured, %d restored, %d invalidated",
+                captured.get(), restored.get(), invalidated.get());
+    }
+}
@@ -0,0 +1,165 @@
+package com.demoqa.driver;
+
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Records and replays a browser's HTTP traffic through the CDP Fetch domain.
+ * <ul>
+ *   <li>record: every response is passed through; successful responses, redirects and 404/410
+ *       are saved to the {@link TrafficStore}. Other errors (5xx, 429, ...) may be transient and
+ *       are never saved, so one flaky response is not replayed forever.</li>
+ *   <li>replay: GET/HEAD requests are answered from the store without touching the network;
+ *       requests that were never recorded fail as if the browser were offline.</li>
+ *   <li>auto: answered from the store when recorded, otherwise loaded and recorded.</li>
+ * </ul>
+ * Requests are matched by method and URL. Other methods, and URLs matching one of the
+ * non-cacheable patterns (e.g. the login API), always go to the network.
+ */
+public class TrafficCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficCache.class);
+    private static final Set<String> CACHEABLE_METHODS = Set.of("GET", "HEAD");
+    // Error statuses that are stable enough to replay; other 4xx/5xx responses are only passed through
+    private static final Set<Integer> RECORDED_ERRORS = Set.of(404, 410);
+    // Bodies come back decoded from CDP, so the original transfer headers no longer apply
+    private static final Set<String> DROPPED_HEADERS = Set.of(
+            "content-encoding", "content-length", "transfer-encoding", "connection", "keep-alive");
+
+    private final DevTools devTools;
+    private final TrafficStore store;
+    private final String mode;
+    private final List<Pattern> excludes;
+
+    /**
+     * Create a traffic cache for one browser.
+     * @param devTools DevTools session of the browser
+     * @param store    Shared response store
+     * @param mode     record, replay or auto
+     * @param excludes Patterns of URLs that are never cached (matched anywhere in the URL)
+     */
+    public TrafficCache(DevTools devTools, TrafficStore store, String mode, List<Pattern> excludes) {
+        this.devTools = devTools;
+        this.store = store;
+        this.mode = mode.toLowerCase(Locale.ROOT);
+        this.excludes = excludes;
+    }
+
+    /**
+     * Start intercepting: at the request stage to replay, at the response stage to record.
+     */
+    public void start() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        if (!"record".equals(mode)) {
+            patterns.add(Map.of("urlPattern", "*", "requestStage", "Request"));
+        }
+        if (!"replay".equals(mode)) {
+            patterns.add(Map.of("urlPattern", "*", "requestStage", "Response"));
+        }
+        devTools.addListener(DevToolsSupport.event("Fetch.requestPaused"), this::onRequestPaused);
+        Map<String, Object> params = new HashMap<>();
+        params.put("patterns", patterns);
+        devTools.send(DevToolsSupport.command("Fetch.enable", params));
+        logger.info("Traffic cache started in {} mode", mode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRequestPaused(Map<String, Object> event) {
+        String requestId = (String) event.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) event.get("request");
+        String method = String.valueOf(request.get("method"));
+        String url = String.valueOf(request.get("url"));
+        try {
+            if (!isCacheable(method, url) || event.containsKey("responseErrorReason")) {
+                proceed(requestId);
+            } else if (event.containsKey("responseStatusCode")) {
+                record(event, method, url);
+                proceed(requestId);
+            } else {
+                replay(requestId, method, url);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Traffic cache could not handle {} {}: {}", method, url, e.getMessage());
+            try {
+                proceed(requestId);
+            } catch (RuntimeException ignored) {
+                // Request already finished or the browser is gone
+            }
+        }
+    }
+
+    private static boolean isRecordable(int status) {
+        return status < 400 || RECORDED_ERRORS.contains(status);
+    }
+
+    private boolean isCacheable(String method, String url) {
+        return CACHEABLE_METHODS.contains(method) && excludes.stream().noneMatch(p -> p.matcher(url).find());
+    }
+
+    private void replay(String requestId, String method, String url) {
+        TrafficStore.CachedResponse cached = store.find(method, url);
+        // Errors saved by older versions are not replayed either
+        if (cached != null && isRecordable(cached.getStatus())) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("requestId", requestId);
+            params.put("responseCode", cached.getStatus());
+            params.put("responseHeaders", cached.getHeaders());
+            params.put("body", Base64.getEncoder().encodeToString(cached.getBody()));
+            if (!cached.getStatusText().isEmpty()) {
+                params.put("responsePhrase", cached.getStatusText());
+            }
+            devTools.send(DevToolsSupport.command("Fetch.fulfillRequest", params));
+        } else if ("replay".equals(mode)) {
+            logger.debug("Not in traffic cache, failing: {} {}", method, url);
+            devTools.send(DevToolsSupport.command("Fetch.failRequest",
+                    Map.of("requestId", requestId, "errorReason", "InternetDisconnected")));
+        } else {
+            // auto: load it; it pauses again at the response stage and is recorded there
+            proceed(requestId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void record(Map<String, Object> event, String method, String url) {
+        int status = ((Number) event.get("responseStatusCode")).intValue();
+        if (!isRecordable(status)) {
+            logger.debug("Not recording {} response: {} {}", status, method, url);
+            return;
+        }
+        byte[] body = new byte[0];
+        if (status < 300 || status >= 400) {
+            // Redirect responses have no body to fetch
+            Map<String, Object> result = devTools.send(DevToolsSupport.command("Fetch.getResponseBody",
+                    Map.of("requestId", event.get("requestId"))));
+            String text = String.valueOf(result.get("body"));
+            body = Boolean.TRUE.equals(result.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(text) : text.getBytes(StandardCharsets.UTF_8);
+        }
+        List<Map<String, Object>> responseHeaders =
+                (List<Map<String, Object>>) event.getOrDefault("responseHeaders", List.of());
+        List<Map<String, String>> headers = new ArrayList<>();
+        for (Map<String, Object> header : responseHeaders) {
+            String name = String.valueOf(header.get("name"));
+            if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.add(Map.of("name", name, "value", String.valueOf(header.get("value"))));
+            }
+        }
+        store.record(method, url, status, String.valueOf(event.getOrDefault("responseStatusText", "")),
+                headers, body);
+    }
+
+    private void proceed(String requestId) {
+        devTools.send(DevToolsSupport.command("Fetch.continueRequest", Map.of("requestId", requestId)));
+    }
+}
@@ -0,0 +1,305 @@
+package com.demoqa.driver;
+
+import com.demoqa.config.ConfigurationManager;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorded browser responses, shared by all browsers of the JVM.
+ * <p>
+ * The index is a HAR 1.2 file (traffic.har) with one entry per method and URL; response bodies are
+ * stored once per content in blobs/&lt;sha-256&gt; and referenced from the entry's content._blob field,
+ * so the same bundle served under many URLs takes disk space only once. Recordings from parallel
+ * JVMs are merged into the index under a file lock.
+ */
+public final class TrafficStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficStore.class);
+    private static final String INDEX_FILE = "traffic.har";
+    private static final String BLOB_DIRECTORY = "blobs";
+
+    private final Path directory;
+    private final Json json = new Json();
+    private final Map<String, Map<String, Object>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong replayedBytes = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile boolean dirty;
+
+    private static final class Holder {
+        private static final TrafficStore INSTANCE =
+                new TrafficStore(Paths.get(ConfigurationManager.getInstance().getTrafficCacheDirectory()));
+    }
+
+    /**
+     * A recorded response ready to be served.
+     */
+    public static final class CachedResponse {
+        private final int status;
+        private final String statusText;
+        private final List<Map<String, String>> headers;
+        private final byte[] body;
+
+        private CachedResponse(int status, String statusText, List<Map<String, String>> headers, byte[] body) {
+            this.status = status;
+            this.statusText = statusText;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getStatusText() {
+            return statusText;
+        }
+
+        /**
+         * @return Headers as HAR/CDP name-value pairs
+         */
+        public List<Map<String, String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * Open a store, loading an existing index from the directory.
+     * @param directory Store directory
+     */
+    public TrafficStore(Path directory) {
+        this.directory = directory;
+        try {
+            for (Map<String, Object> entry : readIndex()) {
+                entries.put(key(entry), entry);
+            }
+            if (!entries.isEmpty()) {
+                logger.info("Traffic cache: {} recorded responses in {}", entries.size(), directory);
+            }
+        } catch (IOException | JsonException | ClassCastException e) {
+            logger.warn("Could not read traffic cache {}: {}", directory.resolve(INDEX_FILE), e.getMessage());
+        }
+    }
+
+    /**
+     * Get the store configured by traffic.cache.directory.
+     * @return Shared TrafficStore instance
+     */
+    public static TrafficStore getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Look up a recorded response.
+     * @param method HTTP method
+     * @param url    Request URL
+     * @return Recorded response, or null if there is none (or its blob is missing)
+     */
+    @SuppressWarnings("unchecked")
+    public CachedResponse find(String method, String url) {
+        Map<String, Object> entry = entries.get(method + " " + url);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        Map<String, Object> response = (Map<String, Object>) entry.get("response");
+        Map<String, Object> content = (Map<String, Object>) response.get("content");
+        byte[] body;
+        try {
+            Object blob = content.get("_blob");
+            body = blob == null ? new byte[0]
+                    : Files.readAllBytes(directory.resolve(BLOB_DIRECTORY).resolve(blob.toString()));
+        } catch (IOException e) {
+            logger.debug("Traffic cache blob missing for {}: {}", url, e.getMessage());
+            misses.incrementAndGet();
+            return null;
+        }
+        replayed.incrementAndGet();
+        replayedBytes.addAndGet(body.length);
+        return new CachedResponse(((Number) response.get("status")).intValue(),
+                String.valueOf(response.getOrDefault("statusText", "")),
+                (List<Map<String, String>>) response.get("headers"), body);
+    }
+
+    /**
+     * Record a response, replacing any earlier recording of the same method and URL.
+     *
+     * @param method     HTTP method
+     * @param url        Request URL
+     * @param status     Response status code
+     * @param statusText Response status text
+     * @param headers    Response headers as name-value pairs
+     * @param body       Decoded response body
+     */
+    public void record(String method, String url, int status, String statusText,
+                       List<Map<String, String>> headers, byte[] body) {
+        try {
+            String blob = body.length == 0 ? null : writeBlob(body);
+            String mimeType = headers.stream()
+                    .filter(header -> "content-type".equalsIgnoreCase(header.get("name")))
+                    .map(header -> header.get("value"))
+                    .findFirst().orElse("");
+
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", method);
+            request.put("url", url);
+            request.put("httpVersion", "HTTP/1.1");
+            request.put("cookies", List.of());
+            request.put("headers", List.of());
+            request.put("queryString", List.of());
+            request.put("headersSize", -1);
+            request.put("bodySize", -1);
+
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put("size", body.length);
+            content.put("mimeType", mimeType);
+            if (blob != null) {
+                content.put("_blob", blob);
+            }
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", status);
+            response.put("statusText", statusText);
+            response.put("httpVersion", "HTTP/1.1");
+            response.put("cookies", List.of());
+            response.put("headers", headers);
+            response.put("content", content);
+            response.put("redirectURL", "");
+            response.put("headersSize", -1);
+            response.put("bodySize", body.length);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("startedDateTime", Instant.now().toString());
+            entry.put("time", 0);
+            entry.put("request", request);
+            entry.put("response", response);
+            entry.put("cache", Map.of());
+            entry.put("timings", Map.of("send", 0, "wait", 0, "receive", 0));
+
+            entries.put(method + " " + url, entry);
+            recorded.incrementAndGet();
+            dirty = true;
+        } catch (IOException e) {
+            logger.warn("Could not record response for {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * Write the index if anything was recorded, merging it with entries that other JVMs
+     * wrote since it was loaded (this JVM's recordings win).
+     */
+    public synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        Path index = directory.resolve(INDEX_FILE);
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(directory.resolve(INDEX_FILE + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Map<String, Map<String, Object>> merged = new LinkedHashMap<>();
+                for (Map<String, Object> entry : readIndex()) {
+                    merged.put(key(entry), entry);
+                }
+                merged.putAll(entries);
+
+                Map<String, Object> log = new LinkedHashMap<>();
+                log.put("version", "1.2");
+                log.put("creator", Map.of("name", "demoqa-traffic-cache", "version", "1.0"));
+                log.put("entries", new ArrayList<>(merged.values()));
+                Path temp = index.resolveSibling(INDEX_FILE + ".tmp");
+                Files.writeString(temp, json.toJson(Map.of("log", log)), StandardCharsets.UTF_8);
+                Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                dirty = false;
+                logger.info("Traffic cache saved: {} responses in {}", merged.size(), index);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not save traffic cache {}: {}", index, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> readIndex() throws IOException {
+        Path index = directory.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return List.of();
+        }
+        Map<String, Object> har = json.toType(Files.readString(index, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        Map<String, Object> log = (Map<String, Object>) har.get("log");
+        return (List<Map<String, Object>>) log.get("entries");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String key(Map<String, Object> entry) {
+        Map<String, Object> request = (Map<String, Object>) entry.get("request");
+        return request.get("method") + " " + request.get("url");
+    }
+
+    /**
+     * Store a body under its SHA-256, once.
+     */
+    private String writeBlob(byte[] body) throws IOException {
+        String hash = sha256(body);
+        Path blob = directory.resolve(BLOB_DIRECTORY).resolve(hash);
+        if (!Files.exists(blob)) {
+            Files.createDirectories(blob.getParent());
+            Path temp = Files.createTempFile(blob.getParent(), hash, ".tmp");
+            Files.write(temp, body);
+            try {
+                Files.move(temp, blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Same content written by another thread or JVM
+                Files.deleteIfExists(temp);
+            }
+        }
+        return hash;
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(body)) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Summarize cache activity of this run.
+     * @return Counts of recorded, replayed and missed responses
+     */
+    public String getStats() {
+        return String.format("%d recorded, %d replayed (%d KB), %d not in cache",
+                recorded.get(), replayed.get(), replayedBytes.get() / 1024, misses.get());
+    }
+}
@@ -0,0 +1,55 @@
+package com.demoqa.history;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Durations of one test run, keyed by "scenario:&lt;name&gt;" or "step:&lt;pattern&gt;".
+ * Scenarios and steps that ran several times (outlines, shared steps) have several samples.
+ */
+public class HistoryRun {
+
+    public static final String SCENARIO = "scenario";
+    public static final String STEP = "step";
+
+    private final long runId;
+    private final String commit;
+    private final Map<String, List<Long>> samples = new LinkedHashMap<>();
+
+    public HistoryRun(long runId, String commit) {
+        this.runId = runId;
+        this.commit = commit;
+    }
+
+    /**
+     * Add a duration sample.
+     * @param kind   SCENARIO or STEP
+     * @param name   Scenario name or step pattern
+     * @param millis Duration in milliseconds
+     */
+    public void add(String kind, String name, long millis) {
+        samples.computeIfAbsent(kind + ":" + name, key -> new ArrayList<>()).add(millis);
+    }
+
+    /**
+     * Get the start time of the run, used as its identifier.
+     * @return Epoch milliseconds
+     */
+    public long getRunId() {
+        return runId;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public Map<String, List<Long>> getSamples() {
+        return samples;
+    }
+
+    public boolean isEmpty() {
+        return samples.isEmpty();
+    }
+}
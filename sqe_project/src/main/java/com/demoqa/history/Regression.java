@@ -0,0 +1,54 @@
+package com.demoqa.history;
+
+/**
+ * A statistically significant slowdown of a scenario or step.
+ */
+public class Regression {
+
+    private final String key;
+    private final double baselineMedian;
+    private final double currentMedian;
+    private final double pValue;
+    private final int baselineSamples;
+    private final int currentSamples;
+
+    public Regression(String key, double baselineMedian, double currentMedian, double pValue,
+                      int baselineSamples, int currentSamples) {
+        this.key = key;
+        this.baselineMedian = baselineMedian;
+        this.currentMedian = currentMedian;
+        this.pValue = pValue;
+        this.baselineSamples = baselineSamples;
+        this.currentSamples = currentSamples;
+    }
+
+    /**
+     * Get the slowed down operation.
+     * @return "scenario:&lt;name&gt;" or "step:&lt;pattern&gt;"
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public double getBaselineMedian() {
+        return baselineMedian;
+    }
+
+    public double getCurrentMedian() {
+        return currentMedian;
+    }
+
+    public double getPValue() {
+        return pValue;
+    }
+
+    public double getSlowdown() {
+        return baselineMedian == 0 ? Double.POSITIVE_INFINITY : currentMedian / baselineMedian;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: median %.0f ms -> %.0f ms (x%.2f, p=%.4f, n=%d/%d)", key, baselineMedian,
+                currentMedian, getSlowdown(), pValue, baselineSamples, currentSamples);
+    }
+}
@@ -0,0 +1,269 @@
+package com.demoqa.history;
+
+import com.demoqa.config.ConfigurationManager;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.Stage;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.PropertiesUtils;
+import io.qameta.allure.util.ResultsUtils;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the latest run in the history with the runs before it and flags
+ * statistically significant slowdowns of scenarios and steps.
+ * <ul>
+ *   <li>With at least 3 samples in the latest run, a one-sided Mann-Whitney U test is used.</li>
+ *   <li>With fewer samples, the median is compared against the baseline using a robust z-score
+ *       (median and median absolute deviation of the baseline).</li>
+ * </ul>
+ * A slowdown is only reported if it is also large enough to matter
+ * (history.min.slowdown ratio and history.min.delta.ms).
+ *
+ * Run after a test run to fail CI on regressions:
+ * mvn exec:java -Dexec.mainClass="com.demoqa.history.RegressionAnalyzer" -Dexec.args="--fail-on-regression"
+ */
+public class RegressionAnalyzer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegressionAnalyzer.class);
+    private static final String CATEGORY_NAME = "Performance regressions";
+    private static final String MESSAGE_PREFIX = "Performance regression";
+
+    private final int baselineRuns;
+    private final int minSamples;
+    private final double alpha;
+    private final double minSlowdown;
+    private final long minDeltaMillis;
+
+    public RegressionAnalyzer(int baselineRuns, int minSamples, double alpha, double minSlowdown, long minDeltaMillis) {
+        this.baselineRuns = baselineRuns;
+        this.minSamples = minSamples;
+        this.alpha = alpha;
+        this.minSlowdown = minSlowdown;
+        this.minDeltaMillis = minDeltaMillis;
+    }
+
+    /**
+     * Create an analyzer with the history.* settings.
+     * @return RegressionAnalyzer
+     */
+    public static RegressionAnalyzer fromConfig() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        return new RegressionAnalyzer(config.getHistoryBaselineRuns(), config.getHistoryMinSamples(),
+                config.getHistoryAlpha(), config.getHistoryMinSlowdown(), config.getHistoryMinDeltaMillis());
+    }
+
+    /**
+     * Analyze the latest run against the preceding runs.
+     *
+     * @param runs History runs, oldest first
+     * @return Regressions, largest slowdown first
+     */
+    public List<Regression> analyze(List<HistoryRun> runs) {
+        List<Regression> regressions = new ArrayList<>();
+        if (runs.size() < 2) {
+            return regressions;
+        }
+        HistoryRun current = runs.get(runs.size() - 1);
+        List<HistoryRun> baseline = runs.subList(Math.max(0, runs.size() - 1 - baselineRuns), runs.size() - 1);
+
+        current.getSamples().forEach((key, values) -> {
+            long[] baselineValues = baseline.stream()
+                    .flatMap(run -> run.getSamples().getOrDefault(key, List.of()).stream())
+                    .mapToLong(Long::longValue).toArray();
+            if (baselineValues.length < minSamples) {
+                return;
+            }
+            long[] currentValues = values.stream().mapToLong(Long::longValue).toArray();
+            double baselineMedian = median(baselineValues);
+            double currentMedian = median(currentValues);
+            if (currentMedian < baselineMedian * minSlowdown || currentMedian - baselineMedian < minDeltaMillis) {
+                return;
+            }
+
+            double pValue = currentValues.length >= 3
+                    ? mannWhitneyGreater(currentValues, baselineValues)
+                    : robustZGreater(currentMedian, baselineValues, baselineMedian);
+            if (pValue < alpha) {
+                regressions.add(new Regression(key, baselineMedian, currentMedian, pValue,
+                        baselineValues.length, currentValues.length));
+            }
+        });
+        regressions.sort(Comparator.comparingDouble(Regression::getSlowdown).reversed());
+        return regressions;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test (normal approximation) that the first sample is larger.
+     * @return p-value
+     */
+    static double mannWhitneyGreater(long[] current, long[] baseline) {
+        int n1 = current.length;
+        int n2 = baseline.length;
+        long[][] combined = new long[n1 + n2][];
+        for (int i = 0; i < n1; i++) {
+            combined[i] = new long[] {current[i], 1};
+        }
+        for (int i = 0; i < n2; i++) {
+            combined[n1 + i] = new long[] {baseline[i], 0};
+        }
+        Arrays.sort(combined, Comparator.comparingLong(value -> value[0]));
+
+        // Rank sum of the current sample, ties get their average rank
+        double rankSum = 0;
+        int i = 0;
+        while (i < combined.length) {
+            int j = i;
+            while (j + 1 < combined.length && combined[j + 1][0] == combined[i][0]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (combined[k][1] == 1) {
+                    rankSum += rank;
+                }
+            }
+            i = j + 1;
+        }
+
+        double u = rankSum - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double sd = Math.sqrt(n1 * (double) n2 * (n1 + n2 + 1) / 12.0);
+        return 1 - normalCdf((u - mean - 0.5) / sd);
+    }
+
+    /**
+     * One-sided robust z-score test of a value against a baseline sample.
+     * @return p-value
+     */
+    static double robustZGreater(double value, long[] baseline, double baselineMedian) {
+        long[] deviations = new long[baseline.length];
+        for (int i = 0; i < baseline.length; i++) {
+            deviations[i] = Math.round(Math.abs(baseline[i] - baselineMedian));
+        }
+        // Floor the spread so perfectly stable baselines do not flag every millisecond
+        double spread = Math.max(1.4826 * median(deviations), Math.max(1, baselineMedian * 0.01));
+        return 1 - normalCdf((value - baselineMedian) / spread);
+    }
+
+    static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    /**
+     * Standard normal CDF (Abramowitz and Stegun 7.1.26, error below 1.5e-7).
+     */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    /**
+     * Report regressions as a failed "Performance regression check" result in the
+     * "Performance regressions" Allure category. Nothing is written without regressions.
+     *
+     * @param regressions      Detected regressions
+     * @param resultsDirectory Allure results directory
+     * @param commit           Commit of the analyzed run
+     * @throws IOException if the category file cannot be written
+     */
+    public static void reportToAllure(List<Regression> regressions, Path resultsDirectory, String commit)
+            throws IOException {
+        if (regressions.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(resultsDirectory);
+        writeCategory(resultsDirectory.resolve("categories.json"));
+
+        long now = System.currentTimeMillis();
+        String message = String.format("%s: %d slowdown%s on commit %s", MESSAGE_PREFIX, regressions.size(),
+                regressions.size() == 1 ? "" : "s", commit);
+        new FileSystemResultsWriter(resultsDirectory).write(new TestResult()
+                .setUuid(UUID.randomUUID().toString())
+                .setHistoryId("performance-regression-check")
+                .setName("Performance regression check")
+                .setFullName("com.demoqa.history.RegressionAnalyzer")
+                .setStatus(Status.FAILED)
+                .setStage(Stage.FINISHED)
+                .setStart(now)
+                .setStop(now)
+                .setStatusDetails(new StatusDetails().setMessage(message).setTrace(
+                        regressions.stream().map(Regression::toString).collect(Collectors.joining("\n"))))
+                .setLabels(List.of(ResultsUtils.createSuiteLabel("Performance"),
+                        ResultsUtils.createFeatureLabel("Run history"))));
+    }
+
+    /**
+     * Add the regression category to categories.json, keeping existing categories.
+     */
+    private static void writeCategory(Path file) throws IOException {
+        Json json = new Json();
+        List<Object> categories = new ArrayList<>();
+        if (Files.exists(file)) {
+            categories.addAll(json.toType(Files.readString(file, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE));
+        }
+        boolean present = categories.stream()
+                .anyMatch(category -> CATEGORY_NAME.equals(((Map<?, ?>) category).get("name")));
+        if (!present) {
+            Map<String, Object> category = new LinkedHashMap<>();
+            category.put("name", CATEGORY_NAME);
+            category.put("messageRegex", MESSAGE_PREFIX + ".*");
+            category.put("matchedStatuses", List.of("failed"));
+            categories.add(category);
+            Files.writeString(file, json.toJson(categories), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Analyze the run history and report regressions.
+     * Exits with status 1 on regressions if --fail-on-regression is passed
+     * or history.fail.on.regression is set.
+     *
+     * @param args Optional --fail-on-regression
+     */
+    public static void main(String[] args) throws IOException {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        List<HistoryRun> runs = new RunHistory(Paths.get(config.getHistoryFile()), config.getHistoryMaxBytes()).load();
+        if (runs.isEmpty()) {
+            System.out.println("No run history found: " + config.getHistoryFile());
+            return;
+        }
+        List<Regression> regressions = fromConfig().analyze(runs);
+        String commit = runs.get(runs.size() - 1).getCommit();
+        System.out.printf("Analyzed run on commit %s against up to %d previous runs: %d regression(s)%n",
+                commit, config.getHistoryBaselineRuns(), regressions.size());
+        regressions.forEach(regression -> System.out.println("  " + regression));
+
+        reportToAllure(regressions, Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results")), commit);
+
+        boolean fail = Arrays.asList(args).contains("--fail-on-regression") || config.isHistoryFailOnRegression();
+        if (fail && !regressions.isEmpty()) {
+            logger.error("Performance regressions detected, failing");
+            System.exit(1);
+        }
+    }
+}
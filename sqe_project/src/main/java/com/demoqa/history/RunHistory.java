@@ -0,0 +1,190 @@
+package com.demoqa.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only, size-capped store of per-scenario and per-step durations.
+ * The file is line-delimited text, one block per run:
+ * <pre>
+ * #run &lt;runId&gt; &lt;commit&gt;
+ * scenario:&lt;name&gt;	&lt;ms&gt;,&lt;ms&gt;
+ * step:&lt;pattern&gt;	&lt;ms&gt;
+ * </pre>
+ * When the file grows beyond its cap, the oldest runs are dropped until it is
+ * back under three quarters of the cap.
+ */
+public class RunHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunHistory.class);
+    private static final String RUN_HEADER = "#run ";
+
+    private final Path file;
+    private final long maxBytes;
+
+    public RunHistory(Path file, long maxBytes) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Append a run and compact the file if it exceeds the size cap.
+     * A sibling .lock file is locked while writing, so parallel JVMs do not interleave blocks
+     * or append to a file that is being compacted.
+     *
+     * @param run Run to append
+     * @throws IOException if the history cannot be written
+     */
+    public void append(HistoryRun run) throws IOException {
+        StringBuilder block = new StringBuilder();
+        block.append(RUN_HEADER).append(run.getRunId()).append(' ').append(run.getCommit()).append('\n');
+        for (Map.Entry<String, List<Long>> entry : run.getSamples().entrySet()) {
+            block.append(sanitize(entry.getKey())).append('\t');
+            List<Long> values = entry.getValue();
+            for (int i = 0; i < values.size(); i++) {
+                block.append(i == 0 ? "" : ",").append(values.get(i));
+            }
+            block.append('\n');
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        // Lock a separate file: compact() replaces the history file, and a lock on it would stay with the old one
+        try (FileChannel channel = FileChannel.open(file.resolveSibling(file.getFileName() + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+            Files.writeString(file, block, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            if (Files.size(file) > maxBytes) {
+                compact();
+            }
+        }
+    }
+
+    private static String sanitize(String key) {
+        return key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Load all runs, oldest first. Malformed lines are skipped.
+     *
+     * @return Runs in the history
+     * @throws IOException if the history cannot be read
+     */
+    public List<HistoryRun> load() throws IOException {
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        List<HistoryRun> runs = new ArrayList<>();
+        HistoryRun current = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RUN_HEADER)) {
+                    String[] header = line.substring(RUN_HEADER.length()).split(" ", 2);
+                    current = new HistoryRun(Long.parseLong(header[0]), header.length > 1 ? header[1] : "unknown");
+                    runs.add(current);
+                    continue;
+                }
+                int tab = line.lastIndexOf('\t');
+                int colon = line.indexOf(':');
+                if (current == null || tab < 0 || colon < 0 || colon > tab) {
+                    continue;
+                }
+                try {
+                    for (String value : line.substring(tab + 1).split(",")) {
+                        current.add(line.substring(0, colon), line.substring(colon + 1, tab), Long.parseLong(value));
+                    }
+                } catch (NumberFormatException e) {
+                    logger.debug("Skipping malformed history line: {}", line);
+                }
+            }
+        }
+        return runs;
+    }
+
+    /**
+     * Drop the oldest runs until the file is under three quarters of the cap.
+     * Called while holding the lock file.
+     */
+    private void compact() throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        long target = maxBytes * 3 / 4;
+        long size = Files.size(file);
+        int start = 0;
+        while (size > target && start < lines.size()) {
+            // Skip one run block
+            int next = start + 1;
+            while (next < lines.size() && !lines.get(next).startsWith(RUN_HEADER)) {
+                next++;
+            }
+            if (next >= lines.size()) {
+                // Always keep the newest run
+                break;
+            }
+            for (int i = start; i < next; i++) {
+                size -= lines.get(i).getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+            start = next;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, lines.subList(start, lines.size()), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Compacted run history {} to {} bytes", file, Files.size(file));
+    }
+
+    /**
+     * Resolve the commit the run is testing: history.commit, then common CI variables,
+     * then the local git checkout.
+     *
+     * @param configured Configured commit or null
+     * @return Commit id or "unknown"
+     */
+    public static String resolveCommit(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.trim();
+        }
+        for (String variable : new String[] {"GITHUB_SHA", "GIT_COMMIT", "CI_COMMIT_SHA"}) {
+            String value = System.getenv(variable);
+            if (value != null && !value.isBlank()) {
+                return value.trim();
+            }
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            // Wait before reading: the output is a single line and fits into the pipe buffer,
+            // and reading first would block on a hung git (credential prompt, index lock)
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                logger.debug("git rev-parse did not finish within 5 s, commit unknown");
+                return "unknown";
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            logger.debug("Could not run git to resolve the commit: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,26 @@
+package com.demoqa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Browser session creation or shutdown in DriverFactory.
+ */
+@Name("com.demoqa.Driver")
+@Label("Driver Lifecycle")
+@Category({"DemoQA", "WebDriver"})
+@Description("WebDriver creation (create) or quit (quit)")
+public class DriverEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Browser")
+    public String browser;
+
+    @Label("Headless")
+    public boolean headless;
+}
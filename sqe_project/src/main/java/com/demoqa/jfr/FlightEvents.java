@@ -0,0 +1,27 @@
+package com.demoqa.jfr;
+
+import com.demoqa.config.ConfigurationManager;
+
+/**
+ * Switch for the framework's custom JFR events (jfr.events.enabled).
+ * Events are only created when enabled; a Flight Recording must be running
+ * (e.g. -XX:StartFlightRecording) for them to be recorded.
+ */
+public final class FlightEvents {
+
+    private static final class Holder {
+        private static final boolean ENABLED = ConfigurationManager.getInstance().isJfrEventsEnabled();
+    }
+
+    private FlightEvents() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check if custom JFR events are emitted.
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return Holder.ENABLED;
+    }
+}
@@ -0,0 +1,28 @@
+package com.demoqa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of a Cucumber scenario, from the Before hook to the After hook.
+ */
+@Name("com.demoqa.Scenario")
+@Label("Scenario")
+@Category({"DemoQA", "Cucumber"})
+@StackTrace(false)
+@Description("Cucumber scenario execution")
+public class ScenarioEvent extends Event {
+
+    @Label("Scenario")
+    public String scenario;
+
+    @Label("Tags")
+    public String tags;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,25 @@
+package com.demoqa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Screenshot capture in ScreenshotUtils.
+ */
+@Name("com.demoqa.Screenshot")
+@Label("Screenshot")
+@Category({"DemoQA", "WebDriver"})
+@Description("Screenshot capture")
+public class ScreenshotEvent extends Event {
+
+    @Label("Name")
+    public String name;
+
+    @Label("Size")
+    @DataAmount
+    public long size;
+}
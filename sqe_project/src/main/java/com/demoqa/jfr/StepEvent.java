@@ -0,0 +1,28 @@
+package com.demoqa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of a Cucumber step.
+ */
+@Name("com.demoqa.Step")
+@Label("Step")
+@Category({"DemoQA", "Cucumber"})
+@StackTrace(false)
+@Description("Cucumber step execution")
+public class StepEvent extends Event {
+
+    @Label("Step")
+    public String step;
+
+    @Label("Location")
+    public String location;
+
+    @Label("Status")
+    public String status;
+}
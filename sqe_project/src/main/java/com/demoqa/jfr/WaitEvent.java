@@ -0,0 +1,31 @@
+package com.demoqa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Explicit wait of a page object.
+ */
+@Name("com.demoqa.Wait")
+@Label("Explicit Wait")
+@Category({"DemoQA", "WebDriver"})
+@Description("WebDriverWait until a condition is met or the wait times out")
+public class WaitEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    public long timeout;
+
+    @Label("Satisfied")
+    public boolean satisfied;
+}
@@ -0,0 +1,224 @@
+package com.demoqa.logging;
+
+import com.demoqa.config.ConfigurationManager;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-thread ring buffer of log events for the running scenario.
+ * Only the owning thread writes to its buffer, so recording needs no locks.
+ * Messages are stored unformatted (pattern plus arguments rendered as strings
+ * at log time, so later changes to mutable arguments do not show) and are only
+ * formatted when the buffer is emitted, which happens for failed scenarios
+ * or in verbose mode. Passing scenarios just drop the buffer.
+ */
+public final class ScenarioLog {
+
+    // Used after the buffer is detached, so its events go straight to the output backend
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioLog.class);
+    private static final ThreadLocal<ScenarioLog> current = new ThreadLocal<>();
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final AtomicLong sequence = new AtomicLong();
+
+    private final String scenario;
+    private final int captureLevel;
+    private final int passthroughLevel;
+
+    private final long[] timestamps;
+    private final Level[] levels;
+    private final String[] loggerNames;
+    private final String[] messages;
+    private final Object[][] arguments;
+    private final Throwable[] throwables;
+    private final String[] steps;
+    private int next;
+    private int size;
+    private long dropped;
+    private String step = "";
+
+    private ScenarioLog(String scenario, int capacity, Level captureLevel, Level passthroughLevel) {
+        this.scenario = scenario;
+        this.captureLevel = captureLevel.toInt();
+        this.passthroughLevel = passthroughLevel.toInt();
+        this.timestamps = new long[capacity];
+        this.levels = new Level[capacity];
+        this.loggerNames = new String[capacity];
+        this.messages = new String[capacity];
+        this.arguments = new Object[capacity][];
+        this.throwables = new Throwable[capacity];
+        this.steps = new String[capacity];
+    }
+
+    /**
+     * Start buffering log events of the current thread for a scenario.
+     * Does nothing unless log.mode is "buffered".
+     * @param scenario Scenario name
+     */
+    public static void begin(String scenario) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (!"buffered".equalsIgnoreCase(config.getLogMode())) {
+            return;
+        }
+        current.set(new ScenarioLog(scenario, config.getLogBufferCapacity(),
+                Level.valueOf(config.getLogBufferLevel().toUpperCase()),
+                Level.valueOf(config.getLogPassthroughLevel().toUpperCase())));
+    }
+
+    /**
+     * Tag subsequent events of the current thread with a step.
+     * @param step Step text
+     */
+    public static void step(String step) {
+        ScenarioLog log = current.get();
+        if (log != null) {
+            log.step = step;
+        }
+    }
+
+    /**
+     * Stop buffering and emit the buffer if the scenario failed or verbose mode is on.
+     * The buffer is attached to Allure or written to a file depending on log.buffer.sink.
+     * @param failed true if the scenario failed
+     */
+    public static void end(boolean failed) {
+        ScenarioLog log = current.get();
+        if (log == null) {
+            return;
+        }
+        current.remove();
+
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (!failed && !config.isLogVerbose()) {
+            return;
+        }
+        String text = log.format();
+        if ("file".equalsIgnoreCase(config.getLogBufferSink())) {
+            log.writeFile(Paths.get(config.getLogDirectory()), text);
+        } else {
+            Allure.addAttachment("Scenario Log", "text/plain", text, ".log");
+        }
+    }
+
+    /**
+     * Get the buffer of the current thread.
+     * @return Active buffer or null if the thread is not buffering
+     */
+    static ScenarioLog current() {
+        return current.get();
+    }
+
+    /**
+     * Check if events of a level are captured.
+     */
+    boolean captures(Level level) {
+        return level.toInt() >= captureLevel;
+    }
+
+    /**
+     * Check if events of a level are also written directly.
+     */
+    boolean passesThrough(Level level) {
+        return level.toInt() >= passthroughLevel;
+    }
+
+    /**
+     * Record an event, overwriting the oldest one when the buffer is full.
+     */
+    void append(Level level, String loggerName, String message, Object[] args, Throwable throwable) {
+        timestamps[next] = System.currentTimeMillis();
+        levels[next] = level;
+        loggerNames[next] = loggerName;
+        messages[next] = message;
+        arguments[next] = snapshot(args);
+        throwables[next] = throwable;
+        steps[next] = step;
+
+        next = (next + 1) % timestamps.length;
+        if (size < timestamps.length) {
+            size++;
+        } else {
+            dropped++;
+        }
+    }
+
+    /**
+     * Render the arguments of an event as they are now; the caller may change them before the buffer is emitted.
+     */
+    private static Object[] snapshot(Object[] args) {
+        if (args == null || args.length == 0) {
+            return args;
+        }
+        Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof String) {
+                values[i] = arg;
+            } else if (arg != null && arg.getClass().isArray()) {
+                // Same rendering of arrays as when slf4j formats them
+                values[i] = MessageFormatter.basicArrayFormat("{}", new Object[] {arg});
+            } else {
+                values[i] = String.valueOf(arg);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Format buffered events, oldest first.
+     */
+    private String format() {
+        StringBuilder text = new StringBuilder(size * 120);
+        text.append("Scenario: ").append(scenario).append('\n');
+        if (dropped > 0) {
+            text.append("... ").append(dropped).append(" earlier events dropped\n");
+        }
+
+        String lastStep = null;
+        int start = (next - size + timestamps.length) % timestamps.length;
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % timestamps.length;
+            if (!steps[index].equals(lastStep)) {
+                lastStep = steps[index];
+                text.append("--- Step: ").append(lastStep.isEmpty() ? "(setup)" : lastStep).append('\n');
+            }
+            text.append(TIME_FORMAT.format(Instant.ofEpochMilli(timestamps[index])))
+                    .append(' ').append(String.format("%-5s", levels[index]))
+                    .append(' ').append(loggerNames[index].substring(loggerNames[index].lastIndexOf('.') + 1))
+                    .append(" - ").append(MessageFormatter.basicArrayFormat(messages[index], arguments[index]))
+                    .append('\n');
+            if (throwables[index] != null) {
+                StringWriter trace = new StringWriter();
+                throwables[index].printStackTrace(new PrintWriter(trace));
+                text.append(trace);
+            }
+        }
+        return text.toString();
+    }
+
+    private void writeFile(Path directory, String text) {
+        String fileName = String.format("%s_%d-%d.log", scenario.replaceAll("[^a-zA-Z0-9]", "_"),
+                ProcessHandle.current().pid(), sequence.incrementAndGet());
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(fileName), text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            logger.error("Failed to write scenario log: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.demoqa.logging;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.IMarkerFactory;
+import org.slf4j.Logger;
+import org.slf4j.simple.SimpleServiceProvider;
+import org.slf4j.spi.MDCAdapter;
+import org.slf4j.spi.SLF4JServiceProvider;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * SLF4J provider that wraps slf4j-simple with per-scenario log buffering.
+ * Selected explicitly through the slf4j.provider system property
+ * (set for surefire in pom.xml), so slf4j-simple stays the output backend.
+ */
+public class ScenarioLogServiceProvider implements SLF4JServiceProvider {
+
+    private final SimpleServiceProvider simpleProvider = new SimpleServiceProvider();
+    private ILoggerFactory loggerFactory;
+
+    @Override
+    public ILoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    @Override
+    public IMarkerFactory getMarkerFactory() {
+        return simpleProvider.getMarkerFactory();
+    }
+
+    @Override
+    public MDCAdapter getMDCAdapter() {
+        return simpleProvider.getMDCAdapter();
+    }
+
+    @Override
+    public String getRequestedApiVersion() {
+        return simpleProvider.getRequestedApiVersion();
+    }
+
+    @Override
+    public void initialize() {
+        simpleProvider.initialize();
+        ILoggerFactory simpleFactory = simpleProvider.getLoggerFactory();
+        ConcurrentMap<String, Logger> loggers = new ConcurrentHashMap<>();
+        loggerFactory = name -> loggers.computeIfAbsent(name,
+                key -> new ScenarioLogger(key, simpleFactory.getLogger(key)));
+    }
+}
@@ -0,0 +1,101 @@
+package com.demoqa.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+import java.util.Arrays;
+
+/**
+ * Logger that records events into the current thread's {@link ScenarioLog}
+ * while a scenario is buffering, and writes directly to the delegate otherwise.
+ * Events at or above the pass-through level are written in both places.
+ */
+class ScenarioLogger extends LegacyAbstractLogger {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Logger delegate;
+
+    ScenarioLogger(String name, Logger delegate) {
+        this.name = name;
+        this.delegate = delegate;
+    }
+
+    private static boolean buffering(Level level) {
+        ScenarioLog log = ScenarioLog.current();
+        return log != null && log.captures(level);
+    }
+
+    @Override
+    public boolean isTraceEnabled() {
+        return buffering(Level.TRACE) || delegate.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return buffering(Level.DEBUG) || delegate.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return buffering(Level.INFO) || delegate.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return buffering(Level.WARN) || delegate.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return buffering(Level.ERROR) || delegate.isErrorEnabled();
+    }
+
+    @Override
+    protected String getFullyQualifiedCallerName() {
+        return null;
+    }
+
+    @Override
+    protected void handleNormalizedLoggingCall(Level level, Marker marker, String message,
+                                               Object[] arguments, Throwable throwable) {
+        ScenarioLog log = ScenarioLog.current();
+        if (log != null && log.captures(level)) {
+            log.append(level, name, message, arguments, throwable);
+            if (!log.passesThrough(level)) {
+                return;
+            }
+        }
+        writeDirect(level, message, arguments, throwable);
+    }
+
+    /**
+     * Write an event to the delegate logger.
+     */
+    private void writeDirect(Level level, String message, Object[] arguments, Throwable throwable) {
+        Object[] all = arguments;
+        if (throwable != null) {
+            all = arguments == null ? new Object[1] : Arrays.copyOf(arguments, arguments.length + 1);
+            all[all.length - 1] = throwable;
+        }
+        switch (level) {
+            case TRACE:
+                delegate.trace(message, all);
+                break;
+            case DEBUG:
+                delegate.debug(message, all);
+                break;
+            case INFO:
+                delegate.info(message, all);
+                break;
+            case WARN:
+                delegate.warn(message, all);
+                break;
+            default:
+                delegate.error(message, all);
+                break;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.demoqa.metrics;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * WebDriver listener that records the latency of every WebDriver, WebElement,
+ * navigation and options call into the metrics registry.
+ * Used through EventFiringDecorator when metrics are enabled.
+ */
+public class DriverCommandTimer implements WebDriverListener {
+
+    private final ConcurrentMap<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        MetricsRegistry.startTimer();
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(method);
+    }
+
+    private void record(Method method) {
+        long nanos = MetricsRegistry.stopTimer();
+        if (nanos < 0) {
+            return;
+        }
+        LatencyHistogram histogram = histograms.get(method);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(method, key -> MetricsRegistry.getInstance().histogram(
+                    MetricsRegistry.Category.DRIVER, key.getDeclaringClass().getSimpleName() + "." + key.getName()));
+        }
+        histogram.recordNanos(nanos);
+    }
+}
@@ -0,0 +1,208 @@
+package com.demoqa.metrics;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Suggests faster or sturdier alternatives for locators: text-scanning and document-wide XPaths,
+ * XPaths that are plain id/class lookups, link text lookups and CSS selectors that cannot match.
+ * Used for the locators seen by the {@link LocatorProfiler} and for a static analysis of the
+ * page objects' @FindBy fields and By constants. Run standalone for the static analysis:
+ * <pre>
+ * mvn compile exec:java -Dexec.mainClass="com.demoqa.metrics.LocatorAdvisor"
+ * </pre>
+ */
+public final class LocatorAdvisor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorAdvisor.class);
+    private static final String PAGES_PACKAGE = "com.demoqa.pages";
+    private static final Pattern XPATH_ID =
+            Pattern.compile("^//(\\*|[a-z][\\w-]*)\\[@id\\s*=\\s*(['\"])([^'\"]+)\\2]$");
+    private static final Pattern XPATH_CLASS =
+            Pattern.compile("^//(\\*|[a-z][\\w-]*)\\[(?:@class\\s*=|contains\\(@class,)\\s*(['\"])([\\w-]+)\\2\\)?]$");
+    private static final Pattern XPATH_TEXT = Pattern.compile("text\\(\\)|\\.\\s*=|contains\\(\\s*\\.");
+    private static final Pattern CSS_TYPE_TOKEN =
+            Pattern.compile("(?:^|[\\s>+~])([A-Za-z][\\w-]*)(?=$|[\\s>+~.#\\[:])");
+    private static final Set<String> HTML_TAGS = Set.of("a", "abbr", "article", "aside", "b", "body", "button",
+            "canvas", "caption", "code", "col", "dd", "details", "dialog", "div", "dl", "dt", "em", "fieldset",
+            "figure", "footer", "form", "h1", "h2", "h3", "h4", "h5", "h6", "head", "header", "html", "i",
+            "iframe", "img", "input", "label", "legend", "li", "main", "nav", "ol", "optgroup", "option", "p",
+            "pre", "section", "select", "small", "span", "strong", "summary", "svg", "table", "tbody", "td",
+            "textarea", "tfoot", "th", "thead", "tr", "u", "ul", "video");
+
+    private LocatorAdvisor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Suggest an alternative for a locator.
+     * @param strategy   By strategy as in By.toString(), e.g. "By.xpath"
+     * @param expression Locator expression (may contain '?' for parameters)
+     * @return Suggestion, or null if the locator looks fine
+     */
+    public static String advise(String strategy, String expression) {
+        switch (strategy) {
+            case "By.xpath":
+                return adviseXPath(expression.trim());
+            case "By.cssSelector":
+                return adviseCss(expression.trim());
+            case "By.linkText":
+            case "By.partialLinkText":
+                return "Link text lookups read the text of every link; use a CSS selector on href or an id, "
+                        + "e.g. a[href*='...']";
+            default:
+                return null;
+        }
+    }
+
+    private static String adviseXPath(String xpath) {
+        Matcher id = XPATH_ID.matcher(xpath);
+        if (id.matches()) {
+            return "Plain id lookup: use @FindBy(id = \"" + id.group(3) + "\") or By.id(\"" + id.group(3) + "\")";
+        }
+        Matcher cssClass = XPATH_CLASS.matcher(xpath);
+        if (cssClass.matches()) {
+            String tag = "*".equals(cssClass.group(1)) ? "" : cssClass.group(1);
+            return "Plain class lookup: use By.cssSelector(\"" + tag + "." + cssClass.group(3) + "\")";
+        }
+        if (XPATH_TEXT.matcher(xpath).find()) {
+            return "Text-scanning XPath: the browser compares the text of every candidate node. Match an id, "
+                    + "class or attribute with CSS (scoped under the nearest container with an id), "
+                    + "and filter by text in code only if the markup has nothing better";
+        }
+        if (xpath.startsWith("//") && !xpath.contains("@id")) {
+            return "Searches the whole document: scope it under an element with an id, or use a CSS selector";
+        }
+        return null;
+    }
+
+    private static String adviseCss(String css) {
+        // Unquoted tokens that are not HTML tags are parsed as element names and never match,
+        // e.g. "#see-book-Git Pocket Guide a" (an id with spaces)
+        Matcher token = CSS_TYPE_TOKEN.matcher(css.replaceAll("\\[[^]]*]|\\([^)]*\\)", "[]"));
+        while (token.find()) {
+            String name = token.group(1);
+            if (!HTML_TAGS.contains(name.toLowerCase()) && !name.contains("-")) {
+                return "'" + name + "' is parsed as an element name, so the selector cannot match. "
+                        + "Quote ids or classes with spaces, e.g. [id='...'], or use a stable attribute";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Analyze the @FindBy fields and By constants of all page objects.
+     * @return Findings with page, field, locator and suggestion, in page and field order
+     */
+    public static List<Map<String, String>> analyzePages() {
+        List<Map<String, String>> findings = new ArrayList<>();
+        for (Class<?> page : findPageClasses()) {
+            for (Field field : page.getDeclaredFields()) {
+                By locator = locatorOf(field);
+                if (locator == null) {
+                    continue;
+                }
+                String[] parts = split(locator.toString());
+                String suggestion = advise(parts[0], parts[1]);
+                if (suggestion != null) {
+                    Map<String, String> finding = new LinkedHashMap<>();
+                    finding.put("page", page.getSimpleName());
+                    finding.put("field", field.getName());
+                    finding.put("locator", locator.toString());
+                    finding.put("suggestion", suggestion);
+                    findings.add(finding);
+                }
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Split By.toString() into strategy and expression, e.g. "By.xpath" and "//a".
+     */
+    static String[] split(String locator) {
+        int colon = locator.indexOf(": ");
+        return colon < 0 ? new String[] {locator, ""}
+                : new String[] {locator.substring(0, colon), locator.substring(colon + 2)};
+    }
+
+    private static By locatorOf(Field field) {
+        try {
+            if (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                    || field.isAnnotationPresent(FindAll.class)) {
+                return new Annotations(field).buildBy();
+            }
+            if (By.class.isAssignableFrom(field.getType()) && Modifier.isStatic(field.getModifiers())) {
+                field.setAccessible(true);
+                return (By) field.get(null);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            logger.debug("Could not read locator of {}.{}: {}", field.getDeclaringClass().getSimpleName(),
+                    field.getName(), e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Find the page object classes in the compiled classes directory.
+     */
+    private static List<Class<?>> findPageClasses() {
+        try {
+            Path root = Paths.get(LocatorAdvisor.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            Path directory = root.resolve(PAGES_PACKAGE.replace('.', '/'));
+            if (!Files.isDirectory(directory)) {
+                logger.debug("Page objects are not in a classes directory, skipping static locator analysis");
+                return List.of();
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                List<String> names = files.map(file -> file.getFileName().toString())
+                        .filter(name -> name.endsWith(".class") && !name.contains("$"))
+                        .sorted()
+                        .collect(Collectors.toList());
+                List<Class<?>> classes = new ArrayList<>();
+                for (String name : names) {
+                    classes.add(Class.forName(PAGES_PACKAGE + "." + name.substring(0, name.length() - 6),
+                            false, LocatorAdvisor.class.getClassLoader()));
+                }
+                return classes;
+            }
+        } catch (IOException | URISyntaxException | ClassNotFoundException | RuntimeException e) {
+            logger.warn("Could not list page objects for locator analysis: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Print the static analysis of the page objects.
+     */
+    public static void main(String[] args) {
+        List<Map<String, String>> findings = analyzePages();
+        for (Map<String, String> finding : findings) {
+            System.out.printf("%s.%s  %s%n    %s%n", finding.get("page"), finding.get("field"),
+                    finding.get("locator"), finding.get("suggestion"));
+        }
+        System.out.println(findings.size() + " locator(s) to review");
+    }
+}
@@ -0,0 +1,239 @@
+package com.demoqa.metrics;
+
+import com.demoqa.config.ConfigurationManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * WebDriver listener that times every findElement and findElements call per locator template
+ * (the locator with quoted values replaced by ?, so "//a[text()='Git']" and "//a[text()='Java']" add up),
+ * and counts misses and stale-element errors of the elements each template found.
+ * At the end of the run the templates are ranked by total time and written with suggestions from
+ * {@link LocatorAdvisor} to metrics.directory/locators.json.
+ * Used through EventFiringDecorator when locator.profiler.enabled is set.
+ */
+public final class LocatorProfiler implements WebDriverListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocatorProfiler.class);
+    private static final Pattern QUOTED = Pattern.compile("'[^']*'|\"[^\"]*\"");
+    private static final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<>();
+    // Elements found by each template, to attribute stale element errors; entries go with the elements
+    private final Map<WebElement, Template> foundBy = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final class Holder {
+        private static final LocatorProfiler INSTANCE = new LocatorProfiler();
+    }
+
+    /**
+     * Lookup statistics of one locator template.
+     */
+    private static final class Template {
+        private final String strategy;
+        private final String expression;
+        private final LatencyHistogram histogram;
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder stale = new LongAdder();
+
+        private Template(String key) {
+            String[] parts = LocatorAdvisor.split(key);
+            this.strategy = parts[0];
+            this.expression = parts[1];
+            this.histogram = new LatencyHistogram(key);
+        }
+
+        private double getTotalMillis() {
+            return histogram.getMeanMillis() * histogram.getCount();
+        }
+    }
+
+    private LocatorProfiler() {
+    }
+
+    /**
+     * Get the shared profiler.
+     * @return LocatorProfiler instance
+     */
+    public static LocatorProfiler getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    @Override
+    public void beforeFindElement(WebDriver driver, By locator) {
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElement(WebDriver driver, By locator, WebElement result) {
+        foundBy.put(unwrap(result), record(locator));
+    }
+
+    @Override
+    public void beforeFindElements(WebDriver driver, By locator) {
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElements(WebDriver driver, By locator, List<WebElement> result) {
+        Template template = record(locator);
+        result.forEach(element -> foundBy.put(unwrap(element), template));
+    }
+
+    @Override
+    public void beforeFindElement(WebElement element, By locator) {
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElement(WebElement element, By locator, WebElement result) {
+        foundBy.put(unwrap(result), record(locator));
+    }
+
+    @Override
+    public void beforeFindElements(WebElement element, By locator) {
+        started.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterFindElements(WebElement element, By locator, List<WebElement> result) {
+        Template template = record(locator);
+        result.forEach(found -> foundBy.put(unwrap(found), template));
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        if (method.getName().startsWith("findElement") && args != null && args.length == 1 && args[0] instanceof By) {
+            record((By) args[0]).misses.increment();
+        } else if (e.getTargetException() instanceof StaleElementReferenceException && target instanceof WebElement) {
+            // The caller (a PageFactory proxy, a wait or a page object) looks the element up again
+            Template template = foundBy.get(unwrap((WebElement) target));
+            if (template != null) {
+                template.stale.increment();
+            }
+        }
+    }
+
+    /**
+     * Get the driver's own element behind a decorated one, as the listener sees both.
+     */
+    private static WebElement unwrap(WebElement element) {
+        while (element instanceof WrapsElement) {
+            element = ((WrapsElement) element).getWrappedElement();
+        }
+        return element;
+    }
+
+    private Template record(By locator) {
+        long nanos = System.nanoTime() - started.get()[0];
+        String key = templateOf(locator);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = templates.computeIfAbsent(key, Template::new);
+        }
+        template.histogram.recordNanos(nanos);
+        return template;
+    }
+
+    /**
+     * Get the template of a locator, e.g. "By.xpath: //a[contains(text(),'?')]".
+     * @param locator Locator
+     * @return Locator with quoted values replaced by '?'
+     */
+    public static String templateOf(By locator) {
+        return QUOTED.matcher(locator.toString()).replaceAll("'?'");
+    }
+
+    /**
+     * Rank the locator templates by total lookup time.
+     * @return One entry per template, most expensive first
+     */
+    public List<Map<String, Object>> rank() {
+        return templates.values().stream()
+                .sorted(Comparator.comparingDouble(Template::getTotalMillis).reversed())
+                .map(template -> {
+                    Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("locator", template.histogram.getName());
+                    entry.put("count", template.histogram.getCount());
+                    entry.put("totalMs", round(template.getTotalMillis()));
+                    entry.put("meanMs", round(template.histogram.getMeanMillis()));
+                    entry.put("p99Ms", round(template.histogram.getPercentileMillis(99)));
+                    entry.put("misses", template.misses.sum());
+                    entry.put("staleRetries", template.stale.sum());
+                    String suggestion = LocatorAdvisor.advise(template.strategy, template.expression);
+                    if (suggestion != null) {
+                        entry.put("suggestion", suggestion);
+                    }
+                    return entry;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Log the most expensive locators and write the ranking and the static analysis of the page objects
+     * to metrics.directory/locators.json.
+     * @return Path of the JSON file, or null if it could not be written
+     */
+    public Path export() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        List<Map<String, Object>> ranking = rank();
+        List<Map<String, String>> findings = LocatorAdvisor.analyzePages();
+        StringBuilder summary = new StringBuilder("Most expensive locators (total ms, lookups, misses, stale):");
+        for (Map<String, Object> entry : ranking.subList(0, Math.min(config.getLocatorProfilerTop(), ranking.size()))) {
+            summary.append(String.format("%n  %10.1f %6d %4d %4d  %s", (Double) entry.get("totalMs"),
+                    entry.get("count"), entry.get("misses"), entry.get("staleRetries"), entry.get("locator")));
+            if (entry.containsKey("suggestion")) {
+                summary.append("\n      ").append(entry.get("suggestion"));
+            }
+        }
+        logger.info("{}", summary);
+        if (!findings.isEmpty()) {
+            logger.info("Static locator analysis: {} page object locator(s) to review, see locators.json",
+                    findings.size());
+        }
+
+        Path file = Paths.get(config.getMetricsDirectory()).resolve("locators.json");
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("ranking", ranking);
+        report.put("pageObjects", findings);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, new Json().toJson(report).getBytes(StandardCharsets.UTF_8));
+            logger.info("Locator profile written to {}", file);
+            return file;
+        } catch (IOException e) {
+            logger.error("Failed to export locator profile", e);
+            return null;
+        }
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
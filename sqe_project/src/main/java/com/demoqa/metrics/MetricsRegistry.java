@@ -0,0 +1,212 @@
+package com.demoqa.metrics;
+
+import com.demoqa.config.ConfigurationManager;
+import io.qameta.allure.util.PropertiesUtils;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of latency histograms for Cucumber steps, page object methods,
+ * WebDriver commands and page time-to-ready. Exported at the end of the run as p50/p90/p99/max to a
+ * JSON file and to the Environment widget of the Allure report.
+ */
+public final class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final int MAX_TIMER_DEPTH = 64;
+    private static final ThreadLocal<long[]> timers = ThreadLocal.withInitial(() -> new long[MAX_TIMER_DEPTH + 1]);
+
+    /**
+     * Kind of measured operation.
+     */
+    public enum Category {
+        STEP("step"),
+        PAGE("page"),
+        DRIVER("driver"),
+        READY("ready");
+
+        private final String key;
+
+        Category(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final Map<Category, ConcurrentMap<String, LatencyHistogram>> histograms = new EnumMap<>(Category.class);
+
+    private static final class Holder {
+        private static final boolean ENABLED = ConfigurationManager.getInstance().isMetricsEnabled();
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    }
+
+    private MetricsRegistry() {
+        for (Category category : Category.values()) {
+            histograms.put(category, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Get the shared registry.
+     * @return MetricsRegistry instance
+     */
+    public static MetricsRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Check if latency metrics are recorded (metrics.enabled).
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return Holder.ENABLED;
+    }
+
+    /**
+     * Get or create the histogram for an operation.
+     * Lookups of existing histograms do not allocate.
+     *
+     * @param category Kind of operation
+     * @param name     Operation name
+     * @return Histogram
+     */
+    public LatencyHistogram histogram(Category category, String name) {
+        ConcurrentMap<String, LatencyHistogram> byName = histograms.get(category);
+        LatencyHistogram histogram = byName.get(name);
+        return histogram != null ? histogram : byName.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    /**
+     * Start timing a nested operation on the current thread.
+     * Must be paired with {@link #stopTimer()}.
+     */
+    public static void startTimer() {
+        long[] stack = timers.get();
+        int depth = (int) stack[0]++;
+        if (depth < MAX_TIMER_DEPTH) {
+            stack[depth + 1] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Stop the innermost timer of the current thread.
+     * @return Elapsed nanoseconds, or -1 if the timer was nested too deep to be tracked
+     */
+    public static long stopTimer() {
+        long[] stack = timers.get();
+        if (stack[0] == 0) {
+            return -1;
+        }
+        int depth = (int) --stack[0];
+        return depth < MAX_TIMER_DEPTH ? System.nanoTime() - stack[depth + 1] : -1;
+    }
+
+    /**
+     * Get percentile summaries of all histograms.
+     * @return Category key to operation name to summary, operation names sorted
+     */
+    public Map<String, Map<String, Map<String, Object>>> summarize() {
+        Map<String, Map<String, Map<String, Object>>> summary = new LinkedHashMap<>();
+        histograms.forEach((category, byName) -> {
+            Map<String, Map<String, Object>> operations = new TreeMap<>();
+            byName.forEach((name, histogram) -> operations.put(name, summarize(histogram)));
+            summary.put(category.getKey(), operations);
+        });
+        return summary;
+    }
+
+    private static Map<String, Object> summarize(LatencyHistogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getCount());
+        values.put("mean", round(histogram.getMeanMillis()));
+        values.put("p50", round(histogram.getPercentileMillis(50)));
+        values.put("p90", round(histogram.getPercentileMillis(90)));
+        values.put("p99", round(histogram.getPercentileMillis(99)));
+        values.put("max", round(histogram.getMaxMillis()));
+        return values;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+
+    /**
+     * Export percentiles (in milliseconds) to metrics.directory/latency.json and
+     * the slowest operations by p99 to the Allure Environment widget.
+     * @return Path of the JSON file, or null if nothing was recorded
+     */
+    public Path export() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        Path file = Paths.get(config.getMetricsDirectory()).resolve("latency.json");
+        Map<String, Map<String, Map<String, Object>>> summary = summarize();
+        if (summary.values().stream().allMatch(Map::isEmpty)) {
+            return null;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, new Json().toJson(summary).getBytes(StandardCharsets.UTF_8));
+            writeAllureEnvironment(config.getMetricsAllureTop());
+            logger.info("Latency metrics written to {}", file);
+        } catch (IOException e) {
+            logger.error("Failed to export latency metrics", e);
+        }
+        return file;
+    }
+
+    /**
+     * Add the slowest operations to environment.properties in the Allure results directory,
+     * keeping entries written by others.
+     */
+    private void writeAllureEnvironment(int top) throws IOException {
+        List<LatencyHistogram> slowest = new ArrayList<>();
+        Map<LatencyHistogram, Category> categories = new LinkedHashMap<>();
+        histograms.forEach((category, byName) -> byName.values().forEach(histogram -> {
+            slowest.add(histogram);
+            categories.put(histogram, category);
+        }));
+        slowest.sort(Comparator.comparingDouble((LatencyHistogram histogram) ->
+                histogram.getPercentileMillis(99)).reversed());
+
+        Path resultsDirectory = Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results"));
+        Path file = resultsDirectory.resolve("environment.properties");
+        Properties environment = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream input = Files.newInputStream(file)) {
+                environment.load(input);
+            }
+        }
+        for (LatencyHistogram histogram : slowest.subList(0, Math.min(top, slowest.size()))) {
+            environment.setProperty("latency." + categories.get(histogram).getKey() + "." + histogram.getName(),
+                    String.format("p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms (n=%d)",
+                            histogram.getPercentileMillis(50), histogram.getPercentileMillis(90),
+                            histogram.getPercentileMillis(99), histogram.getMaxMillis(), histogram.getCount()));
+        }
+        Files.createDirectories(resultsDirectory);
+        try (OutputStream output = Files.newOutputStream(file)) {
+            environment.store(output, null);
+        }
+    }
+}
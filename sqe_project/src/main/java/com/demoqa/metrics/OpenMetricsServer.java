@@ -0,0 +1,143 @@
+package com.demoqa.metrics;
+
+import com.demoqa.config.ConfigurationManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP endpoint serving {@link SuiteCounters} in the OpenMetrics text format,
+ * so throughput can be watched while the suite runs:
+ * <pre>
+ * curl http://127.0.0.1:9464/metrics
+ * </pre>
+ * Uses the JDK's built-in HttpServer on a single daemon thread.
+ */
+public final class OpenMetricsServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenMetricsServer.class);
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+
+    private OpenMetricsServer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start the endpoint if metrics.http.enabled is set. Does nothing if it is already running.
+     * A port that is already in use (e.g. by another fork) is logged and skipped.
+     */
+    public static synchronized void startIfEnabled() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (server != null || !config.isMetricsHttpEnabled()) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(config.getMetricsHttpHost(), config.getMetricsHttpPort()), 0);
+            server.createContext("/metrics", OpenMetricsServer::handle);
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "openmetrics-http");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            server.start();
+            InetSocketAddress address = server.getAddress();
+            logger.info("OpenMetrics endpoint: http://{}:{}/metrics", address.getHostString(), address.getPort());
+        } catch (IOException e) {
+            logger.warn("Could not start OpenMetrics endpoint on port {}: {}", config.getMetricsHttpPort(), e.getMessage());
+            server = null;
+        }
+    }
+
+    /**
+     * Stop the endpoint at the end of the run.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Render the current counters in the OpenMetrics text format.
+     * @return Exposition text, terminated by "# EOF"
+     */
+    static String render() {
+        StringBuilder text = new StringBuilder(2048);
+        counter(text, "demoqa_scenarios_started", "Scenarios started", SuiteCounters.getScenariosStarted());
+        text.append("# TYPE demoqa_scenarios_finished counter\n")
+                .append("# HELP demoqa_scenarios_finished Scenarios finished by status\n")
+                .append("demoqa_scenarios_finished_total{status=\"passed\"} ")
+                .append(SuiteCounters.getScenariosPassed()).append('\n')
+                .append("demoqa_scenarios_finished_total{status=\"failed\"} ")
+                .append(SuiteCounters.getScenariosFailed()).append('\n');
+        gauge(text, "demoqa_scenarios_running", "Scenarios currently running", SuiteCounters.getScenariosRunning());
+        gauge(text, "demoqa_scenarios_per_minute", "Scenarios finished in the last minute",
+                SuiteCounters.getScenariosPerMinute());
+        gauge(text, "demoqa_scenario_failure_ratio", "Share of finished scenarios that failed",
+                SuiteCounters.getFailureRate());
+        gauge(text, "demoqa_browsers_active", "Browsers currently open", SuiteCounters.getActiveBrowsers());
+        counter(text, "demoqa_browsers_created", "Browsers created", SuiteCounters.getBrowsersCreated());
+        counter(text, "demoqa_browsers_reused", "Browsers kept for another scenario",
+                SuiteCounters.getBrowsersReused());
+        counter(text, "demoqa_browser_failures", "Browsers that failed to start", SuiteCounters.getBrowserFailures());
+        counter(text, "demoqa_screenshots", "Screenshots captured", SuiteCounters.getScreenshots());
+        text.append("# TYPE demoqa_screenshot_bytes counter\n")
+                .append("# UNIT demoqa_screenshot_bytes bytes\n")
+                .append("# HELP demoqa_screenshot_bytes Size of captured screenshots\n")
+                .append("demoqa_screenshot_bytes_total ").append(SuiteCounters.getScreenshotBytes()).append('\n');
+        counter(text, "demoqa_requests_blocked", "Requests blocked by the browser (ads, trackers, resource-light mode)",
+                SuiteCounters.getRequestsBlocked());
+        counter(text, "demoqa_navigations_avoided", "Page loads skipped because the browser was already on the page",
+                SuiteCounters.getNavigationsAvoided());
+        text.append("# TYPE demoqa_queue_depth gauge\n")
+                .append("# HELP demoqa_queue_depth Items waiting in background queues\n");
+        SuiteCounters.getQueueDepths().forEach((name, depth) -> text.append("demoqa_queue_depth{queue=\"")
+                .append(name).append("\"} ").append(depth).append('\n'));
+        return text.append("# EOF\n").toString();
+    }
+
+    private static void counter(StringBuilder text, String name, String help, long value) {
+        text.append("# TYPE ").append(name).append(" counter\n")
+                .append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append(name).append("_total ").append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder text, String name, String help, double value) {
+        text.append("# TYPE ").append(name).append(" gauge\n")
+                .append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append(name).append(' ').append(value == Math.rint(value)
+                        ? String.valueOf((long) value) : String.format(Locale.ROOT, "%.4f", value)).append('\n');
+    }
+}
@@ -0,0 +1,182 @@
+package com.demoqa.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Live suite counters maintained by DriverFactory, Hooks and ScreenshotUtils,
+ * exposed during the run by {@link OpenMetricsServer}.
+ * Counters are always maintained, updating them is a LongAdder increment.
+ */
+public final class SuiteCounters {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final LongAdder scenariosStarted = new LongAdder();
+    private static final LongAdder scenariosPassed = new LongAdder();
+    private static final LongAdder scenariosFailed = new LongAdder();
+    private static final LongAdder browsersCreated = new LongAdder();
+    private static final LongAdder browsersQuit = new LongAdder();
+    private static final LongAdder browsersReused = new LongAdder();
+    private static final LongAdder browserFailures = new LongAdder();
+    private static final LongAdder screenshots = new LongAdder();
+    private static final LongAdder screenshotBytes = new LongAdder();
+    private static final LongAdder requestsBlocked = new LongAdder();
+    private static final LongAdder navigationsAvoided = new LongAdder();
+    private static final ConcurrentLinkedDeque<Long> recentFinishes = new ConcurrentLinkedDeque<>();
+    private static final Map<String, IntSupplier> queues = new ConcurrentHashMap<>();
+
+    private SuiteCounters() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void scenarioStarted() {
+        scenariosStarted.increment();
+    }
+
+    public static void scenarioFinished(boolean failed) {
+        (failed ? scenariosFailed : scenariosPassed).increment();
+        long now = System.nanoTime();
+        recentFinishes.addLast(now);
+        prune(now);
+    }
+
+    public static void browserCreated() {
+        browsersCreated.increment();
+    }
+
+    public static void browserQuit() {
+        browsersQuit.increment();
+    }
+
+    public static void browserReused() {
+        browsersReused.increment();
+    }
+
+    public static void browserFailed() {
+        browserFailures.increment();
+    }
+
+    public static void screenshotCaptured(long bytes) {
+        screenshots.increment();
+        screenshotBytes.add(bytes);
+    }
+
+    public static void requestBlocked() {
+        requestsBlocked.increment();
+    }
+
+    public static void navigationAvoided() {
+        navigationsAvoided.increment();
+    }
+
+    /**
+     * Register a background queue whose depth is reported with the counters.
+     * @param name  Queue name, used as label value
+     * @param depth Supplier of the current number of pending items
+     */
+    public static void registerQueue(String name, IntSupplier depth) {
+        queues.put(name, depth);
+    }
+
+    public static long getScenariosStarted() {
+        return scenariosStarted.sum();
+    }
+
+    public static long getScenariosPassed() {
+        return scenariosPassed.sum();
+    }
+
+    public static long getScenariosFailed() {
+        return scenariosFailed.sum();
+    }
+
+    /**
+     * Get scenarios started but not finished yet.
+     * @return Running scenario count
+     */
+    public static long getScenariosRunning() {
+        return Math.max(0, getScenariosStarted() - getScenariosPassed() - getScenariosFailed());
+    }
+
+    /**
+     * Get scenarios finished in the last minute.
+     * @return Scenarios per minute
+     */
+    public static int getScenariosPerMinute() {
+        prune(System.nanoTime());
+        return recentFinishes.size();
+    }
+
+    /**
+     * Get share of finished scenarios that failed.
+     * @return Failure rate between 0 and 1
+     */
+    public static double getFailureRate() {
+        long failed = getScenariosFailed();
+        long finished = failed + getScenariosPassed();
+        return finished == 0 ? 0 : (double) failed / finished;
+    }
+
+    public static long getBrowsersCreated() {
+        return browsersCreated.sum();
+    }
+
+    public static long getBrowsersQuit() {
+        return browsersQuit.sum();
+    }
+
+    public static long getBrowsersReused() {
+        return browsersReused.sum();
+    }
+
+    public static long getBrowserFailures() {
+        return browserFailures.sum();
+    }
+
+    /**
+     * Get browsers created and not quit yet.
+     * @return Active browser count
+     */
+    public static long getActiveBrowsers() {
+        return Math.max(0, getBrowsersCreated() - getBrowsersQuit());
+    }
+
+    public static long getScreenshots() {
+        return screenshots.sum();
+    }
+
+    public static long getScreenshotBytes() {
+        return screenshotBytes.sum();
+    }
+
+    public static long getRequestsBlocked() {
+        return requestsBlocked.sum();
+    }
+
+    public static long getNavigationsAvoided() {
+        return navigationsAvoided.sum();
+    }
+
+    /**
+     * Get current depth of registered queues.
+     * @return Queue name to pending item count
+     */
+    public static Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> depths = new TreeMap<>();
+        queues.forEach((name, depth) -> depths.put(name, depth.getAsInt()));
+        return depths;
+    }
+
+    private static synchronized void prune(long now) {
+        Long oldest;
+        while ((oldest = recentFinishes.peekFirst()) != null && now - oldest > WINDOW_NANOS) {
+            recentFinishes.pollFirst();
+        }
+    }
+}
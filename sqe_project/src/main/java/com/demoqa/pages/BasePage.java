@@ -1,16 +1,25 @@
 package com.demoqa.pages;
 
+import com.demoqa.aspects.StepLevel;
+import com.demoqa.aspects.Verbosity;
 import com.demoqa.config.ConfigurationManager;
 import com.demoqa.driver.DriverFactory;
+import com.demoqa.driver.NetworkBlocker;
+import com.demoqa.jfr.FlightEvents;
+import com.demoqa.jfr.WaitEvent;
+import com.demoqa.metrics.MetricsRegistry;
+import com.demoqa.metrics.SuiteCounters;
 import io.qameta.allure.Step;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 /**
  * Base Page class for all Page Objects.
@@ -18,6 +27,11 @@ import java.time.Duration;
  */
 public abstract class BasePage {
     
+    private static final ThreadLocal<WebElement> lastInteractedElement = new ThreadLocal<>();
+    // Set on the old document before navigating, so a page that has not been replaced yet is not taken as ready
+    private static final String MARK_DOCUMENT = "window.__demoqaLeaving = true;";
+    private static final String DOCUMENT_REPLACED = "return !window.__demoqaLeaving;";
+    
     protected final WebDriver driver;
     protected final WebDriverWait wait;
     protected final Logger logger;
@@ -26,31 +40,137 @@ public abstract class BasePage {
     protected BasePage() {
         this.driver = DriverFactory.getDriver();
         this.config = ConfigurationManager.getInstance();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
+        this.wait = FlightEvents.isEnabled()
+                ? new RecordedWait(driver, Duration.ofSeconds(config.getExplicitWait()), getClass().getSimpleName())
+                : new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
         this.logger = LoggerFactory.getLogger(this.getClass());
         PageFactory.initElements(driver, this);
     }
     
     /**
-     * Navigate to a specific URL.
+     * Navigate to a specific URL and wait until the page is ready (see {@link #readyCondition()}).
+     * With the eager or none page load strategy this returns before images, ads and other
+     * subresources have loaded. Time-to-ready is recorded per page when metrics are enabled.
      * @param url URL to navigate to
      */
     @Step("Navigate to URL: {url}")
+    @Verbosity(StepLevel.DRIVER)
     public void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
+        boolean noWait = "none".equalsIgnoreCase(config.getPageLoadStrategy());
+        long start = System.nanoTime();
+        if (noWait && driver.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) driver).executeScript(MARK_DOCUMENT);
+        }
         driver.get(url);
+        if (noWait) {
+            wait.until(webDriver -> (Boolean) ((JavascriptExecutor) webDriver).executeScript(DOCUMENT_REPLACED));
+        }
+        wait.until(readyCondition());
+        long nanos = System.nanoTime() - start;
+        if (MetricsRegistry.isEnabled()) {
+            MetricsRegistry.getInstance().histogram(MetricsRegistry.Category.READY, getClass().getSimpleName())
+                    .recordNanos(nanos);
+        }
+        logger.debug("{} ready after {} ms", getClass().getSimpleName(), nanos / 1_000_000);
+    }
+    
+    /**
+     * Readiness contract of the page: the condition after which it can be used, checked after every
+     * navigation instead of waiting for all subresources. Pages override it with their own signal,
+     * such as their main input being clickable; the default waits until the document has been parsed.
+     * @return Condition that is satisfied (non-null, non-false) once the page is ready
+     */
+    protected ExpectedCondition<?> readyCondition() {
+        return webDriver -> !"loading".equals(
+                ((JavascriptExecutor) webDriver).executeScript("return document.readyState"));
     }
     
     /**
      * Navigate to a page relative to base URL.
+     * With navigation.reuse, a page the browser is already on is reset instead of reloaded
+     * if the page supports it (see {@link #resetState()}).
      * @param path Path relative to base URL
      */
     @Step("Navigate to path: {path}")
+    @Verbosity(StepLevel.DRIVER)
     public void navigateToPath(String path) {
         String url = config.getBaseUrl() + path;
+        if (config.isNavigationReuse() && reuseCurrentPage(url)) {
+            logger.info("Already on {}, reset the page instead of reloading it", url);
+            SuiteCounters.navigationAvoided();
+            return;
+        }
         navigateTo(url);
     }
     
+    /**
+     * Reset the page the browser is on if it is the requested one, and check that it is ready.
+     * Both run without the implicit wait: a page that is not ready right after the reset, e.g. a book
+     * list emptied by a search, is reloaded at once instead of after the implicit wait.
+     * @return true if no navigation is needed
+     */
+    private boolean reuseCurrentPage(String url) {
+        try {
+            if (!withoutFragment(driver.getCurrentUrl()).equals(withoutFragment(url))) {
+                return false;
+            }
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            try {
+                if (!resetState()) {
+                    return false;
+                }
+                Object ready = readyCondition().apply(driver);
+                return ready != null && !Boolean.FALSE.equals(ready);
+            } finally {
+                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+            }
+        } catch (WebDriverException e) {
+            logger.debug("Could not reuse current page, reloading: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    private static String withoutFragment(String url) {
+        int fragment = url.indexOf('#');
+        String result = fragment >= 0 ? url.substring(0, fragment) : url;
+        return result.endsWith("/") ? result.substring(0, result.length() - 1) : result;
+    }
+    
+    /**
+     * Return the page to the state of a fresh load, so that it can be reused instead of reloaded.
+     * Pages that support navigation reuse override it; by default the page is always reloaded.
+     * Called without the implicit wait, so lookups of elements that may be absent return at once.
+     * @return true if the state was reset, false if the page has to be reloaded
+     */
+    protected boolean resetState() {
+        return false;
+    }
+    
+    /**
+     * Get the element the current thread's page objects interacted with last.
+     * Used to capture element-scoped failure artifacts.
+     * @return Last interacted element or null
+     */
+    public static WebElement getLastInteractedElement() {
+        return lastInteractedElement.get();
+    }
+    
+    /**
+     * Forget the last interacted element (called between scenarios).
+     */
+    public static void clearLastInteractedElement() {
+        lastInteractedElement.remove();
+    }
+    
+    /**
+     * Remember an element as the last interacted one.
+     * @param element WebElement being interacted with
+     */
+    protected void track(WebElement element) {
+        lastInteractedElement.set(element);
+    }
+    
     /**
      * Wait for element to be visible.
      * @param element WebElement to wait for
@@ -83,8 +203,10 @@ public abstract class BasePage {
      * @param element WebElement to click
      */
     @Step("Click on element")
+    @Verbosity(StepLevel.DRIVER)
     protected void click(WebElement element) {
         logger.debug("Clicking element: {}", element);
+        track(element);
         waitForClickable(element);
         scrollToElement(element);
         element.click();
@@ -95,8 +217,10 @@ public abstract class BasePage {
      * @param element WebElement to click
      */
     @Step("JavaScript click on element")
+    @Verbosity(StepLevel.DRIVER)
     protected void jsClick(WebElement element) {
         logger.debug("JavaScript clicking element: {}", element);
+        track(element);
         scrollToElement(element);
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
     }
@@ -107,8 +231,10 @@ public abstract class BasePage {
      * @param text Text to type
      */
     @Step("Type text: {text}")
+    @Verbosity(StepLevel.DRIVER)
     protected void type(WebElement element, String text) {
         logger.debug("Typing '{}' into element", text);
+        track(element);
         waitForVisibility(element);
         element.clear();
         element.sendKeys(text);
@@ -120,6 +246,7 @@ public abstract class BasePage {
      * @return Text content
      */
     protected String getText(WebElement element) {
+        track(element);
         waitForVisibility(element);
         return element.getText();
     }
@@ -131,6 +258,7 @@ public abstract class BasePage {
      * @return Attribute value
      */
     protected String getAttribute(WebElement element, String attribute) {
+        track(element);
         waitForVisibility(element);
         return element.getAttribute(attribute);
     }
@@ -148,6 +276,21 @@ public abstract class BasePage {
         }
     }
     
+    /**
+     * Check if an element is displayed, without the implicit wait when it is absent.
+     * Used to tell which of several possible states a page is in.
+     * @param locator By locator
+     * @return true if a matching element is displayed
+     */
+    protected boolean isDisplayedNow(By locator) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return driver.findElements(locator).stream().anyMatch(this::isDisplayed);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+        }
+    }
+    
     /**
      * Scroll to element.
      * @param element WebElement to scroll to
@@ -196,14 +339,49 @@ public abstract class BasePage {
     
     /**
      * Remove any overlays/popups that might block clicks.
+     * Not needed when the browser blocks ad requests (see {@link NetworkBlocker}), which also hides their containers.
      */
     protected void removeOverlays() {
+        if (DriverFactory.isNetworkBlockingActive()) {
+            return;
+        }
         try {
             ((JavascriptExecutor) driver).executeScript(
-                "document.querySelectorAll('[id*=\"google_ads\"], [id*=\"fixedban\"], .ad-container').forEach(el => el.remove());"
+                "document.querySelectorAll(arguments[0]).forEach(el => el.remove());", NetworkBlocker.AD_CONTAINERS
             );
         } catch (Exception e) {
             logger.debug("No overlays found to remove");
         }
     }
+    
+    /**
+     * WebDriverWait that emits a JFR event for every wait of the page.
+     */
+    private static final class RecordedWait extends WebDriverWait {
+        
+        private final String page;
+        private final long timeoutMillis;
+        
+        private RecordedWait(WebDriver driver, Duration timeout, String page) {
+            super(driver, timeout);
+            this.page = page;
+            this.timeoutMillis = timeout.toMillis();
+        }
+        
+        @Override
+        public <V> V until(Function<? super WebDriver, V> isTrue) {
+            WaitEvent event = new WaitEvent();
+            event.begin();
+            try {
+                V value = super.until(isTrue);
+                event.satisfied = true;
+                return value;
+            } finally {
+                event.page = page;
+                event.condition = String.valueOf(isTrue);
+                event.timeout = timeoutMillis;
+                event.commit();
+            }
+        }
+    }
 }
@@ -2,8 +2,11 @@ package com.demoqa.pages;
 
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -15,6 +18,12 @@ import java.util.stream.Collectors;
 public class BookStorePage extends BasePage {
 
     private static final String BOOKS_URL = "/books";
+    private static final By BOOK_TITLE_LINK = By.cssSelector(".rt-tbody .action-buttons a");
+    private static final By OPEN_MODAL = By.cssSelector(".modal.show");
+    private static final By LOGGED_IN_USER = By.cssSelector("#userName-value, #submit");
+    private static final String USER_NAME_COOKIE = "userName";
+    private static final LocatorTemplate BOOK_LINK_BY_TITLE =
+            LocatorTemplate.containingText(".rt-tbody .action-buttons a");
 
     @FindBy(id = "searchBox")
     private WebElement searchBox;
@@ -25,7 +34,7 @@ public class BookStorePage extends BasePage {
     @FindBy(css = ".rt-tbody .action-buttons a")
     private List<WebElement> bookTitleLinks;
 
-    @FindBy(css = "#see-book-Git Pocket Guide a")
+    @FindBy(css = "[id='see-book-Git Pocket Guide'] a")
     private WebElement gitPocketGuideLink;
 
     @FindBy(css = ".books-wrapper")
@@ -69,11 +78,42 @@ public class BookStorePage extends BasePage {
     @Step("Open Book Store page")
     public BookStorePage open() {
         navigateToPath(BOOKS_URL);
-        waitForVisibility(searchBox);
         removeOverlays();
         return this;
     }
 
+    /**
+     * Ready when the search box is shown and the book rows are rendered.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.and(ExpectedConditions.visibilityOf(searchBox),
+                ExpectedConditions.presenceOfElementLocated(BOOK_TITLE_LINK));
+    }
+
+    /**
+     * Clear the search and scroll back to the top. A page with an open dialog is reloaded, and so is
+     * a page whose login state no longer matches the cookies, e.g. one still showing the previous
+     * scenario's user after a pooled browser's cookies were deleted.
+     */
+    @Override
+    protected boolean resetState() {
+        if (!driver.findElements(OPEN_MODAL).isEmpty()) {
+            return false;
+        }
+        boolean shownLoggedIn = !driver.findElements(LOGGED_IN_USER).isEmpty();
+        boolean cookieLoggedIn = driver.manage().getCookieNamed(USER_NAME_COOKIE) != null;
+        if (shownLoggedIn != cookieLoggedIn) {
+            logger.debug("Book Store page shows a stale login state, reloading it");
+            return false;
+        }
+        if (!searchBox.getAttribute("value").isEmpty()) {
+            searchBox.clear();
+        }
+        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
+        return true;
+    }
+
     /**
      * Search for a book.
      * 
@@ -136,8 +176,8 @@ public class BookStorePage extends BasePage {
      */
     @Step("Click on book: {title}")
     public BookStorePage clickBook(String title) {
-        WebElement bookLink = driver.findElement(
-                By.xpath("//a[contains(text(),'" + title + "')]"));
+        WebElement bookLink = wait.until(ExpectedConditions.presenceOfElementLocated(
+                BOOK_LINK_BY_TITLE.by(title)));
         scrollToElement(bookLink);
         jsClick(bookLink);
         return this;
@@ -3,6 +3,8 @@ package com.demoqa.pages;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Page Object for DemoQA Home Page.
@@ -42,11 +44,18 @@ public class HomePage extends BasePage {
     @Step("Open DemoQA Home Page")
     public HomePage open() {
         navigateToPath(HOME_URL);
-        waitForVisibility(categoryCards);
         removeOverlays();
         return this;
     }
     
+    /**
+     * Ready when the category cards are shown.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(categoryCards);
+    }
+    
     /**
      * Navigate to Elements section.
      * @return HomePage instance
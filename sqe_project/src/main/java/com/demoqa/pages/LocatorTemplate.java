@@ -0,0 +1,161 @@
+package com.demoqa.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Locator of an element by its text, e.g. a book link by title or a dropdown option by name,
+ * replacing XPaths such as "//a[contains(text(),'" + title + "')]" built per call.
+ * <p>
+ * The template is a CSS selector for the candidates plus the text to match. The text is passed to the
+ * lookup script as an argument, so quotes (O'Reilly) need no escaping. The script builds a
+ * text-to-element index of the candidates once per document and reuses it, so repeated lookups on a
+ * page are a map access. The index is rebuilt when a lookup misses, e.g. after a menu has opened.
+ * Templates are immutable and meant to be constants of the page object:
+ * <pre>
+ * private static final LocatorTemplate OPTION = LocatorTemplate.withText("div[class*='menu'] div[class*='option']");
+ * wait.until(ExpectedConditions.elementToBeClickable(OPTION.by(state)));
+ * </pre>
+ */
+public final class LocatorTemplate {
+
+    private static final String FIND_BY_TEXT = String.join("\n",
+            "var css = arguments[0], wanted = arguments[1], contains = arguments[2],",
+            "    ancestor = arguments[3], target = arguments[4], scope = arguments[5];",
+            "function norm(value) { return (value || '').replace(/\\s+/g, ' ').trim(); }",
+            "var indexes = window.__demoqaTextIndex || (window.__demoqaTextIndex = {});",
+            "function build() {",
+            "  var index = { exact: new Map(), entries: [] };",
+            "  document.querySelectorAll(css).forEach(function (element) {",
+            "    var text = norm(element.textContent);",
+            "    if (!index.exact.has(text)) { index.exact.set(text, element); }",
+            "    index.entries.push({ text: text, element: element });",
+            "  });",
+            "  return indexes[css] = index;",
+            "}",
+            "function matches(element) {",
+            "  var text = norm(element.textContent);",
+            "  return element.isConnected && (!scope || scope.contains(element))",
+            "      && (contains ? text.indexOf(wanted) >= 0 : text === wanted);",
+            "}",
+            "function lookup(index) {",
+            "  if (!contains && !scope) {",
+            "    var element = index.exact.get(wanted);",
+            "    return element && matches(element) ? [element] : [];",
+            "  }",
+            "  return index.entries.filter(function (entry) {",
+            "    var hit = contains ? entry.text.indexOf(wanted) >= 0 : entry.text === wanted;",
+            "    return hit && matches(entry.element);",
+            "  }).map(function (entry) { return entry.element; });",
+            "}",
+            "wanted = norm(wanted);",
+            "var found = indexes[css] ? lookup(indexes[css]) : [];",
+            "if (!found.length) { found = lookup(build()); }",
+            "if (!target) { return found; }",
+            "return found.map(function (element) {",
+            "  var base = ancestor ? element.closest(ancestor) : element;",
+            "  return base && base.querySelector(target);",
+            "}).filter(function (element) { return element; });");
+
+    private final String css;
+    private final boolean contains;
+    private final String ancestor;
+    private final String target;
+
+    private LocatorTemplate(String css, boolean contains, String ancestor, String target) {
+        this.css = css;
+        this.contains = contains;
+        this.ancestor = ancestor;
+        this.target = target;
+    }
+
+    /**
+     * Template for elements whose whole text (whitespace collapsed) equals the parameter.
+     * @param css Selector of the candidate elements
+     * @return LocatorTemplate
+     */
+    public static LocatorTemplate withText(String css) {
+        return new LocatorTemplate(css, false, null, null);
+    }
+
+    /**
+     * Template for elements whose text contains the parameter.
+     * @param css Selector of the candidate elements
+     * @return LocatorTemplate
+     */
+    public static LocatorTemplate containingText(String css) {
+        return new LocatorTemplate(css, true, null, null);
+    }
+
+    /**
+     * Resolve to an element next to the matched one, e.g. the value cell in the row of a label cell.
+     * @param ancestorCss Selector of the matched element's closest ancestor to search from
+     * @param targetCss   Selector of the element to return within that ancestor
+     * @return LocatorTemplate resolving to the target element
+     */
+    public LocatorTemplate relative(String ancestorCss, String targetCss) {
+        return new LocatorTemplate(css, contains, ancestorCss, targetCss);
+    }
+
+    /**
+     * Get the locator for one parameter value.
+     * @param text Text to match
+     * @return By for finding elements and for waits
+     */
+    public By by(String text) {
+        return new ByText(this, text);
+    }
+
+    @Override
+    public String toString() {
+        return css + (contains ? " containing text" : " with text")
+                + (target == null ? "" : " -> " + ancestor + " " + target);
+    }
+
+    /**
+     * Locator resolved by the lookup script instead of the driver's XPath/CSS engine.
+     * Unlike native locators it does not wait for the implicit wait; use an explicit wait.
+     */
+    private static final class ByText extends By {
+
+        private final LocatorTemplate template;
+        private final String text;
+
+        private ByText(LocatorTemplate template, String text) {
+            this.template = template;
+            this.text = text;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public List<WebElement> findElements(SearchContext context) {
+            WebElement scope = context instanceof WebElement ? (WebElement) context : null;
+            Object result = executor(context).executeScript(FIND_BY_TEXT, template.css, text, template.contains,
+                    template.ancestor, template.target, scope);
+            return result instanceof List ? (List<WebElement>) result : new ArrayList<>();
+        }
+
+        private static JavascriptExecutor executor(SearchContext context) {
+            if (context instanceof JavascriptExecutor) {
+                return (JavascriptExecutor) context;
+            }
+            if (context instanceof WrapsDriver) {
+                return (JavascriptExecutor) ((WrapsDriver) context).getWrappedDriver();
+            }
+            throw new IllegalArgumentException("Cannot run a text lookup in " + context);
+        }
+
+        @Override
+        public String toString() {
+            // Same shape as By.toString(), so the locator profiler groups it by template;
+            // double quotes keep texts with apostrophes in one group
+            return "By.text: " + template + " \"" + text + "\"";
+        }
+    }
+}
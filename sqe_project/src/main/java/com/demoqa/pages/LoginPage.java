@@ -1,8 +1,14 @@
 package com.demoqa.pages;
 
+import com.demoqa.aspects.StepLevel;
+import com.demoqa.aspects.Verbosity;
+import com.demoqa.driver.SessionSnapshot;
+import com.demoqa.driver.SessionStore;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Page Object for DemoQA Login Page.
@@ -11,6 +17,7 @@ import org.openqa.selenium.support.FindBy;
 public class LoginPage extends BasePage {
     
     private static final String LOGIN_URL = "/login";
+    private static final String PROFILE_PATH = "/profile";
     
     @FindBy(id = "userName")
     private WebElement usernameInput;
@@ -49,11 +56,18 @@ public class LoginPage extends BasePage {
     @Step("Open Login page")
     public LoginPage open() {
         navigateToPath(LOGIN_URL);
-        waitForVisibility(usernameInput);
         removeOverlays();
         return this;
     }
     
+    /**
+     * Ready when the user name input is clickable.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(usernameInput);
+    }
+    
     /**
      * Enter username.
      * @param username Username to enter
@@ -94,6 +108,7 @@ public class LoginPage extends BasePage {
      * @return LoginPage instance for chaining
      */
     @Step("Login with username: {username}")
+    @Verbosity(StepLevel.BUSINESS)
     public LoginPage login(String username, String password) {
         enterUsername(username);
         enterPassword(password);
@@ -101,6 +116,45 @@ public class LoginPage extends BasePage {
         return this;
     }
     
+    /**
+     * Log in, restoring a saved session of the account instead of filling in the form when
+     * session.snapshot.enabled is set. The session is saved after the first successful login with the
+     * same username and password; a session the site no longer accepts is dropped and the form is used.
+     *
+     * @param username Username
+     * @param password Password
+     * @return ProfilePage the site shows after logging in
+     */
+    @Step("Log in as {username}")
+    @Verbosity(StepLevel.BUSINESS)
+    public ProfilePage loginAs(String username, String password) {
+        ProfilePage profilePage = new ProfilePage();
+        SessionStore sessions = SessionStore.getInstance();
+        if (config.isSessionSnapshotEnabled()) {
+            SessionSnapshot snapshot = sessions.get(username, password);
+            if (snapshot != null) {
+                snapshot.restore(driver, config.getSessionRestorePath());
+                if (profilePage.open().isLoggedIn()) {
+                    logger.info("Restored session of {}", username);
+                    return profilePage;
+                }
+                sessions.invalidate(username, password);
+            }
+        }
+        open();
+        login(username, password);
+        // A successful login opens the profile
+        wait.until(ExpectedConditions.or(ExpectedConditions.urlContains(PROFILE_PATH),
+                ExpectedConditions.visibilityOf(invalidCredentialsMessage)));
+        if (config.isSessionSnapshotEnabled() && driver.getCurrentUrl().contains(PROFILE_PATH)) {
+            wait.until(profilePage.readyCondition());
+            if (profilePage.isLoggedIn()) {
+                sessions.put(username, password, SessionSnapshot.capture(driver));
+            }
+        }
+        return profilePage;
+    }
+    
     /**
      * Click new user button.
      * @return LoginPage instance for chaining
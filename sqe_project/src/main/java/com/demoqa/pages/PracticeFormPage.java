@@ -1,10 +1,13 @@
 package com.demoqa.pages;
 
+import com.demoqa.aspects.StepLevel;
+import com.demoqa.aspects.Verbosity;
 import io.qameta.allure.Step;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
@@ -14,6 +17,10 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 public class PracticeFormPage extends BasePage {
 
     private static final String FORM_URL = "/automation-practice-form";
+    private static final LocatorTemplate MENU_OPTION =
+            LocatorTemplate.withText("div[class*='menu'] div[class*='option']");
+    private static final LocatorTemplate MODAL_VALUE =
+            LocatorTemplate.withText(".modal-body td:first-child").relative("tr", "td:last-child");
 
     @FindBy(id = "firstName")
     private WebElement firstNameInput;
@@ -86,11 +93,18 @@ public class PracticeFormPage extends BasePage {
     @Step("Open Practice Form page")
     public PracticeFormPage open() {
         navigateToPath(FORM_URL);
-        waitForVisibility(firstNameInput);
         removeOverlays();
         return this;
     }
 
+    /**
+     * Ready when the first name input is clickable.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(firstNameInput);
+    }
+
     /**
      * Enter first name.
      * 
@@ -254,7 +268,7 @@ public class PracticeFormPage extends BasePage {
         scrollToElement(stateDropdown);
         jsClick(stateDropdown);
         WebElement option = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.xpath("//div[contains(@class, 'menu')]//div[text()='" + state + "']")));
+                MENU_OPTION.by(state)));
         jsClick(option);
         return this;
     }
@@ -270,7 +284,7 @@ public class PracticeFormPage extends BasePage {
         scrollToElement(cityDropdown);
         jsClick(cityDropdown);
         WebElement option = wait.until(ExpectedConditions.visibilityOfElementLocated(
-                By.xpath("//div[contains(@class, 'menu')]//div[text()='" + city + "']")));
+                MENU_OPTION.by(city)));
         jsClick(option);
         return this;
     }
@@ -291,6 +305,7 @@ public class PracticeFormPage extends BasePage {
      * Fill the complete form with all required fields.
      */
     @Step("Fill complete practice form")
+    @Verbosity(StepLevel.BUSINESS)
     public PracticeFormPage fillForm(String firstName, String lastName, String email,
             String gender, String mobile, String subjects,
             String hobbies, String address) {
@@ -345,9 +360,7 @@ public class PracticeFormPage extends BasePage {
      */
     @Step("Get modal value for: {label}")
     public String getModalValue(String label) {
-        WebElement row = driver.findElement(
-                By.xpath("//td[text()='" + label + "']/following-sibling::td"));
-        return row.getText();
+        return wait.until(ExpectedConditions.presenceOfElementLocated(MODAL_VALUE.by(label))).getText();
     }
 
     /**
@@ -0,0 +1,58 @@
+package com.demoqa.pages;
+
+import io.qameta.allure.Step;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Page Object for DemoQA Book Store Profile Page.
+ * URL: https://demoqa.com/profile
+ */
+public class ProfilePage extends BasePage {
+
+    private static final String PROFILE_URL = "/profile";
+    private static final By USER_NAME_VALUE = By.id("userName-value");
+    private static final By NOT_LOGGED_IN_LABEL = By.id("notLoggin-label");
+
+    @FindBy(id = "userName-value")
+    private WebElement userNameValue;
+
+    /**
+     * Open Profile page directly.
+     * @return ProfilePage instance for chaining
+     */
+    @Step("Open Profile page")
+    public ProfilePage open() {
+        navigateToPath(PROFILE_URL);
+        removeOverlays();
+        return this;
+    }
+
+    /**
+     * Ready when it shows the logged in user, or says that nobody is logged in.
+     * Each poll checks both without the implicit wait, as only one of them is ever shown.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return webDriver -> isDisplayedNow(USER_NAME_VALUE) || isDisplayedNow(NOT_LOGGED_IN_LABEL);
+    }
+
+    /**
+     * Check if a user is logged in, without waiting.
+     * @return true if the profile shows a user
+     */
+    public boolean isLoggedIn() {
+        return isDisplayedNow(USER_NAME_VALUE);
+    }
+
+    /**
+     * Get logged in username.
+     * @return Username of logged in user
+     */
+    @Step("Get logged in username")
+    public String getUserName() {
+        return getText(userNameValue);
+    }
+}
@@ -1,8 +1,12 @@
 package com.demoqa.pages;
 
+import com.demoqa.aspects.StepLevel;
+import com.demoqa.aspects.Verbosity;
 import io.qameta.allure.Step;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Page Object for DemoQA Text Box Page.
@@ -49,11 +53,18 @@ public class TextBoxPage extends BasePage {
     @Step("Open Text Box page")
     public TextBoxPage open() {
         navigateToPath(TEXT_BOX_URL);
-        waitForVisibility(fullNameInput);
         removeOverlays();
         return this;
     }
     
+    /**
+     * Ready when the Full Name input is clickable.
+     */
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.elementToBeClickable(fullNameInput);
+    }
+    
     /**
      * Enter full name.
      * @param fullName Full name to enter
@@ -118,6 +129,7 @@ public class TextBoxPage extends BasePage {
      * @return TextBoxPage instance for chaining
      */
     @Step("Fill text box form with all details")
+    @Verbosity(StepLevel.BUSINESS)
     public TextBoxPage fillForm(String fullName, String email, String currentAddress, String permanentAddress) {
         enterFullName(fullName);
         enterEmail(email);
@@ -0,0 +1,386 @@
+package com.demoqa.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory stub of the DemoQA BookStore REST API, with the same paths, payloads,
+ * status codes and error codes as the public API:
+ * <pre>
+ * POST   /Account/v1/User               register {userName, password}
+ * GET    /Account/v1/User/{userId}      user with books (authorized)
+ * DELETE /Account/v1/User/{userId}      delete user (authorized)
+ * POST   /Account/v1/GenerateToken      {userName, password}
+ * POST   /Account/v1/Authorized         {userName, password}
+ * POST   /Account/v1/Login              {userName, password}
+ * GET    /BookStore/v1/Books            catalogue
+ * POST   /BookStore/v1/Books            add {userId, collectionOfIsbns: [{isbn}]} (authorized)
+ * DELETE /BookStore/v1/Books?UserId=    remove all of a user's books (authorized)
+ * GET    /BookStore/v1/Book?ISBN=       one book
+ * DELETE /BookStore/v1/Book             remove {isbn, userId} (authorized)
+ * PUT    /BookStore/v1/Books/{isbn}     replace with {userId, isbn} (authorized)
+ * </pre>
+ * Authorized calls take "Authorization: Bearer &lt;token&gt;" or Basic credentials.
+ * Accounts live until the stub is stopped.
+ */
+final class BookStoreApi {
+
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final Pattern PASSWORD_POLICY =
+            Pattern.compile("^(?=.*\\d)(?=.*[a-z])(?=.*[A-Z])(?=.*[^a-zA-Z0-9]).{8,}$");
+
+    private final Json json = new Json();
+    private final Map<String, Map<String, Object>> books;
+    private final Map<String, Account> accountsById = new ConcurrentHashMap<>();
+    private final Map<String, Account> accountsByName = new ConcurrentHashMap<>();
+
+    /**
+     * A registered user and the ISBNs in their collection.
+     */
+    private static final class Account {
+        private final String userId = UUID.randomUUID().toString();
+        private final String userName;
+        private final String password;
+        private final String createdDate = Instant.now().toString();
+        private final List<String> isbns = Collections.synchronizedList(new ArrayList<>());
+        private volatile String token;
+        private volatile Instant expires;
+
+        private Account(String userName, String password) {
+            this.userName = userName;
+            this.password = password;
+        }
+    }
+
+    /**
+     * Thrown by request handling to answer with an API error body.
+     */
+    private static final class ApiError extends RuntimeException {
+        private final int status;
+        private final String code;
+
+        private ApiError(int status, String code, String message) {
+            super(message, null, false, false);
+            this.status = status;
+            this.code = code;
+        }
+    }
+
+    BookStoreApi() {
+        try (InputStream input = BookStoreApi.class.getResourceAsStream("/stub/books.json")) {
+            Map<String, Object> catalogue = json.toType(new String(input.readAllBytes(), StandardCharsets.UTF_8),
+                    Json.MAP_TYPE);
+            Map<String, Map<String, Object>> byIsbn = new LinkedHashMap<>();
+            for (Object book : (List<?>) catalogue.get("books")) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> fields = (Map<String, Object>) book;
+                byIsbn.put((String) fields.get("isbn"), fields);
+            }
+            books = Collections.unmodifiableMap(byIsbn);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stub book catalogue", e);
+        }
+    }
+
+    void handle(HttpExchange exchange, String path) throws IOException {
+        Object response;
+        int status = 200;
+        try {
+            String method = exchange.getRequestMethod();
+            String route = method + " " + path.replaceFirst("^(/Account/v1/User/|/BookStore/v1/Books/).+$", "$1*");
+            switch (route) {
+                case "POST /Account/v1/User":
+                    status = 201;
+                    response = register(body(exchange));
+                    break;
+                case "GET /Account/v1/User/*":
+                    response = userView(authorizedFor(exchange, lastSegment(path)));
+                    break;
+                case "DELETE /Account/v1/User/*":
+                    deleteUser(authorizedFor(exchange, lastSegment(path)));
+                    status = 204;
+                    response = null;
+                    break;
+                case "POST /Account/v1/GenerateToken":
+                    response = generateToken(body(exchange));
+                    break;
+                case "POST /Account/v1/Authorized":
+                    response = existing(body(exchange)).token != null;
+                    break;
+                case "POST /Account/v1/Login":
+                    response = login(body(exchange));
+                    break;
+                case "GET /BookStore/v1/Books":
+                    response = Map.of("books", new ArrayList<>(books.values()));
+                    break;
+                case "POST /BookStore/v1/Books":
+                    status = 201;
+                    response = addBooks(exchange, body(exchange));
+                    break;
+                case "DELETE /BookStore/v1/Books":
+                    authorizedFor(exchange, query(exchange, "UserId")).isbns.clear();
+                    status = 204;
+                    response = null;
+                    break;
+                case "PUT /BookStore/v1/Books/*":
+                    response = replaceBook(exchange, lastSegment(path), body(exchange));
+                    break;
+                case "GET /BookStore/v1/Book":
+                    response = book(query(exchange, "ISBN"));
+                    break;
+                case "DELETE /BookStore/v1/Book":
+                    removeBook(exchange, body(exchange));
+                    status = 204;
+                    response = null;
+                    break;
+                default:
+                    throw new ApiError(404, "404", "Resource not found: " + route);
+            }
+        } catch (ApiError e) {
+            status = e.status;
+            response = Map.of("code", e.code, "message", e.getMessage());
+        }
+        DemoQaStubServer.send(exchange, status, JSON_TYPE,
+                response == null ? null : json.toJson(response).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Object> register(Map<String, Object> body) {
+        String userName = string(body, "userName");
+        String password = string(body, "password");
+        if (userName.isEmpty() || password.isEmpty()) {
+            throw new ApiError(400, "1200", "UserName and Password required.");
+        }
+        if (!PASSWORD_POLICY.matcher(password).matches()) {
+            throw new ApiError(400, "1300", "Passwords must have at least one non alphanumeric character, "
+                    + "one digit ('0'-'9'), one uppercase ('A'-'Z'), one lowercase ('a'-'z'), "
+                    + "one special character and Password must be eight characters or longer.");
+        }
+        Account account = new Account(userName, password);
+        if (accountsByName.putIfAbsent(userName, account) != null) {
+            throw new ApiError(406, "1204", "User exists!");
+        }
+        accountsById.put(account.userId, account);
+        Map<String, Object> created = new LinkedHashMap<>();
+        created.put("userID", account.userId);
+        created.put("username", account.userName);
+        created.put("books", List.of());
+        return created;
+    }
+
+    private void deleteUser(Account account) {
+        accountsById.remove(account.userId);
+        accountsByName.remove(account.userName);
+    }
+
+    private Map<String, Object> generateToken(Map<String, Object> body) {
+        String userName = string(body, "userName");
+        String password = string(body, "password");
+        if (userName.isEmpty() || password.isEmpty()) {
+            throw new ApiError(400, "1200", "UserName and Password required.");
+        }
+        Account account = accountsByName.get(userName);
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (account == null || !account.password.equals(password)) {
+            result.put("token", null);
+            result.put("expires", null);
+            result.put("status", "Failed");
+            result.put("result", "User authorization failed.");
+            return result;
+        }
+        issueToken(account);
+        result.put("token", account.token);
+        result.put("expires", account.expires.toString());
+        result.put("status", "Success");
+        result.put("result", "User authorized successfully.");
+        return result;
+    }
+
+    private Map<String, Object> login(Map<String, Object> body) {
+        Account account = existing(body);
+        if (account.token == null || account.expires.isBefore(Instant.now())) {
+            issueToken(account);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("userId", account.userId);
+        result.put("username", account.userName);
+        result.put("password", account.password);
+        result.put("token", account.token);
+        result.put("expires", account.expires.toString());
+        result.put("created_date", account.createdDate);
+        result.put("isActive", false);
+        return result;
+    }
+
+    private static void issueToken(Account account) {
+        account.expires = Instant.now().plus(7, ChronoUnit.DAYS);
+        account.token = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (account.userName + ":" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Object> addBooks(HttpExchange exchange, Map<String, Object> body) {
+        Account account = authorizedFor(exchange, string(body, "userId"));
+        Object collection = body.get("collectionOfIsbns");
+        if (!(collection instanceof List)) {
+            throw new ApiError(400, "1207", "Collection of books required.");
+        }
+        List<String> isbns = new ArrayList<>();
+        for (Object entry : (List<?>) collection) {
+            String isbn = entry instanceof Map ? String.valueOf(((Map<?, ?>) entry).get("isbn")) : "";
+            book(isbn);
+            isbns.add(isbn);
+        }
+        List<Map<String, Object>> added = new ArrayList<>();
+        synchronized (account.isbns) {
+            for (String isbn : isbns) {
+                if (account.isbns.contains(isbn)) {
+                    throw new ApiError(400, "1210", "ISBN already present in the User's Collection!");
+                }
+            }
+            for (String isbn : isbns) {
+                account.isbns.add(isbn);
+                added.add(Map.of("isbn", isbn));
+            }
+        }
+        return Map.of("books", added);
+    }
+
+    private Map<String, Object> replaceBook(HttpExchange exchange, String isbn, Map<String, Object> body) {
+        Account account = authorizedFor(exchange, string(body, "userId"));
+        String replacement = string(body, "isbn");
+        book(replacement);
+        synchronized (account.isbns) {
+            int index = account.isbns.indexOf(isbn);
+            if (index < 0) {
+                throw new ApiError(400, "1206", "ISBN supplied is not available in User's Collection!");
+            }
+            account.isbns.set(index, replacement);
+        }
+        return userView(account);
+    }
+
+    private void removeBook(HttpExchange exchange, Map<String, Object> body) {
+        Account account = authorizedFor(exchange, string(body, "userId"));
+        if (!account.isbns.remove(string(body, "isbn"))) {
+            throw new ApiError(400, "1206", "ISBN supplied is not available in User's Collection!");
+        }
+    }
+
+    private Map<String, Object> book(String isbn) {
+        Map<String, Object> book = books.get(isbn);
+        if (book == null) {
+            throw new ApiError(400, "1205", "ISBN supplied is not available in Books Collection!");
+        }
+        return book;
+    }
+
+    private Map<String, Object> userView(Account account) {
+        List<Map<String, Object>> collection = new ArrayList<>();
+        synchronized (account.isbns) {
+            for (String isbn : account.isbns) {
+                collection.add(books.get(isbn));
+            }
+        }
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("userId", account.userId);
+        user.put("username", account.userName);
+        user.put("books", collection);
+        return user;
+    }
+
+    /**
+     * Look up the account for userName/password in a request body.
+     */
+    private Account existing(Map<String, Object> body) {
+        String userName = string(body, "userName");
+        String password = string(body, "password");
+        if (userName.isEmpty() || password.isEmpty()) {
+            throw new ApiError(400, "1200", "UserName and Password required.");
+        }
+        Account account = accountsByName.get(userName);
+        if (account == null || !account.password.equals(password)) {
+            throw new ApiError(404, "1207", "User not found!");
+        }
+        return account;
+    }
+
+    /**
+     * Check the Authorization header and that it belongs to the given user.
+     */
+    private Account authorizedFor(HttpExchange exchange, String userId) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        Account caller = null;
+        if (header != null && header.startsWith("Bearer ")) {
+            String token = header.substring("Bearer ".length()).trim();
+            caller = accountsById.values().stream()
+                    .filter(account -> token.equals(account.token) && account.expires.isAfter(Instant.now()))
+                    .findFirst().orElse(null);
+        } else if (header != null && header.startsWith("Basic ")) {
+            String[] credentials = new String(Base64.getDecoder().decode(header.substring("Basic ".length()).trim()),
+                    StandardCharsets.UTF_8).split(":", 2);
+            Account account = accountsByName.get(credentials[0]);
+            if (account != null && credentials.length == 2 && account.password.equals(credentials[1])) {
+                caller = account;
+            }
+        }
+        if (caller == null) {
+            throw new ApiError(401, "1200", "User not authorized!");
+        }
+        if (!caller.userId.equals(userId)) {
+            throw new ApiError(401, "1207", "User Id not correct!");
+        }
+        return caller;
+    }
+
+    private Map<String, Object> body(HttpExchange exchange) throws IOException {
+        String text = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        try {
+            Map<String, Object> body = text.isBlank() ? null : json.toType(text, Json.MAP_TYPE);
+            if (body == null) {
+                throw new ApiError(400, "1200", "Request body required.");
+            }
+            return body;
+        } catch (JsonException e) {
+            throw new ApiError(400, "1200", "Invalid JSON body.");
+        }
+    }
+
+    private static String string(Map<String, Object> body, String key) {
+        Object value = body.get(key);
+        return value == null ? "" : value.toString();
+    }
+
+    private static String query(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                int separator = parameter.indexOf('=');
+                if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                    return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return "";
+    }
+
+    private static String lastSegment(String path) {
+        return URLDecoder.decode(path.substring(path.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,242 @@
+package com.demoqa.stub;
+
+import com.demoqa.config.ConfigurationManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for demoqa.com, so the suite can run without network access and
+ * without depending on the public site's availability, ads and response times.
+ * <ul>
+ *   <li>Serves the pages our page objects use (home, text-box, automation-practice-form,
+ *       login, register, profile, books) with the same ids, classes and texts.</li>
+ *   <li>Serves a stub of the BookStore REST API (Account/v1, BookStore/v1), see {@link BookStoreApi}.</li>
+ *   <li>Injects configurable latency (stub.latency.ms, stub.api.latency.ms, stub.latency.jitter.ms),
+ *       so waits can be tested against slow responses deterministically.</li>
+ * </ul>
+ * Started from the suite hooks when stub.enabled is set; the offline profile enables it and points
+ * base.url at it. API scenarios tagged @stub start it on demand. Run standalone to browse it:
+ * <pre>
+ * mvn compile exec:java -Dexec.mainClass="com.demoqa.stub.DemoQaStubServer"
+ * </pre>
+ */
+public final class DemoQaStubServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DemoQaStubServer.class);
+    private static final String RESOURCES = "/stub/";
+    private static final Map<String, String> PAGES = Map.ofEntries(
+            Map.entry("/", "home.html"),
+            Map.entry("/text-box", "text-box.html"),
+            Map.entry("/automation-practice-form", "automation-practice-form.html"),
+            Map.entry("/login", "login.html"),
+            Map.entry("/register", "register.html"),
+            Map.entry("/profile", "profile.html"),
+            Map.entry("/books", "books.html"),
+            Map.entry("/elements", "section.html"),
+            Map.entry("/forms", "section.html"),
+            Map.entry("/alertsWindows", "section.html"),
+            Map.entry("/widgets", "section.html"),
+            Map.entry("/interaction", "section.html"));
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "svg", "image/svg+xml");
+    private static final byte[] NOT_FOUND = "<h1>404 Not Found</h1>".getBytes(StandardCharsets.UTF_8);
+    private static final Map<String, byte[]> resourceCache = new ConcurrentHashMap<>();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static BookStoreApi api;
+    private static int pageLatencyMillis;
+    private static int apiLatencyMillis;
+    private static int jitterMillis;
+
+    private DemoQaStubServer() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start the stub if stub.enabled is set. Does nothing if it is already running.
+     * A port that is already in use (e.g. by another fork serving the same stub) is logged and skipped.
+     */
+    public static synchronized void startIfEnabled() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (server != null || !config.isStubEnabled()) {
+            return;
+        }
+        String url = ensureStarted();
+        if (!config.getBaseUrl().startsWith(url)) {
+            logger.warn("DemoQA stub is running at {} but base.url is {}", url, config.getBaseUrl());
+        }
+    }
+
+    /**
+     * Start the stub regardless of stub.enabled, e.g. for API scenarios tagged @stub.
+     * Does nothing if it is already running. If the port is in use, another fork is assumed
+     * to serve the stub there.
+     *
+     * @return Base URL of the stub
+     */
+    public static synchronized String ensureStarted() {
+        if (server != null) {
+            return getUrl();
+        }
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        pageLatencyMillis = config.getStubLatencyMillis();
+        apiLatencyMillis = config.getStubApiLatencyMillis();
+        jitterMillis = config.getStubLatencyJitterMillis();
+        try {
+            start(config.getStubHost(), config.getStubPort());
+            return getUrl();
+        } catch (IOException e) {
+            logger.warn("Could not start DemoQA stub on port {}: {}", config.getStubPort(), e.getMessage());
+            server = null;
+            return "http://" + config.getStubHost() + ":" + config.getStubPort();
+        }
+    }
+
+    private static void start(String host, int port) throws IOException {
+        api = new BookStoreApi();
+        server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext("/", DemoQaStubServer::handle);
+        // Latency is injected by sleeping, so parallel browsers need their own threads
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "demoqa-stub-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        logger.info("DemoQA stub: {} (page latency {} ms, API latency {} ms, jitter {} ms)",
+                getUrl(), pageLatencyMillis, apiLatencyMillis, jitterMillis);
+    }
+
+    /**
+     * Stop the stub at the end of the run.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            api = null;
+        }
+    }
+
+    /**
+     * Get the address the stub is listening on.
+     * @return Base URL such as http://127.0.0.1:8765, or null if it is not running
+     */
+    public static synchronized String getUrl() {
+        if (server == null) {
+            return null;
+        }
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getHostString() + ":" + address.getPort();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            boolean apiRequest = path.startsWith("/Account/") || path.startsWith("/BookStore/");
+            delay(apiRequest ? apiLatencyMillis : pageLatencyMillis);
+            if (apiRequest) {
+                api.handle(exchange, path);
+            } else if (PAGES.containsKey(path)) {
+                sendResource(exchange, "pages/" + PAGES.get(path), "no-cache");
+            } else if (path.startsWith("/static/") || path.startsWith("/images/")) {
+                sendResource(exchange, path.substring(1), "max-age=3600");
+            } else {
+                send(exchange, 404, CONTENT_TYPES.get("html"), NOT_FOUND);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("DemoQA stub failed to serve {}: {}", exchange.getRequestURI(), e.toString());
+            send(exchange, 500, null, null);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void delay(int latencyMillis) {
+        int millis = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextInt(jitterMillis + 1) : 0);
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void sendResource(HttpExchange exchange, String name, String cacheControl) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+            send(exchange, 405, null, null);
+            return;
+        }
+        byte[] body = name.contains("..") ? null : resourceCache.computeIfAbsent(name, DemoQaStubServer::readResource);
+        if (body == null) {
+            send(exchange, 404, CONTENT_TYPES.get("html"), NOT_FOUND);
+            return;
+        }
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+        send(exchange, 200, CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"), body);
+    }
+
+    private static byte[] readResource(String name) {
+        try (InputStream input = DemoQaStubServer.class.getResourceAsStream(RESOURCES + name)) {
+            // computeIfAbsent does not cache null, so a missing resource is looked up again next time
+            return input == null ? null : input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read stub resource: " + name, e);
+        }
+    }
+
+    /**
+     * Write a complete response. A null body sends headers only.
+     */
+    static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        if (body == null || body.length == 0 || "HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Run the stub in the foreground with the configured host, port and latency.
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        pageLatencyMillis = config.getStubLatencyMillis();
+        apiLatencyMillis = config.getStubApiLatencyMillis();
+        jitterMillis = config.getStubLatencyJitterMillis();
+        start(config.getStubHost(), config.getStubPort());
+        System.out.println("DemoQA stub running at " + getUrl() + " - press Ctrl+C to stop");
+        Thread.currentThread().join();
+    }
+}
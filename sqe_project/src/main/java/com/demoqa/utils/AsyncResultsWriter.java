@@ -0,0 +1,281 @@
+package com.demoqa.utils;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Allure results writer that hands results and attachments to a background thread,
+ * so the test thread does not pay for JSON serialization and file I/O.
+ * <ul>
+ *   <li>Pending writes are drained in batches. Results are serialized by Allure's own
+ *       {@link FileSystemResultsWriter}; attachments are written through one reused output buffer.</li>
+ *   <li>In-memory attachments (ByteArrayInputStream, e.g. screenshots) are queued without copying.
+ *       Other streams are read into memory up to the streaming threshold; larger ones are
+ *       streamed straight to disk on the calling thread instead of being buffered.</li>
+ *   <li>The queue is bounded: when the writer falls behind, the caller blocks until there is room.</li>
+ *   <li>Call {@link #close()} when the run finishes. A shutdown hook also drains the queue
+ *       when the JVM exits, in case the run ends without finishing.</li>
+ * </ul>
+ */
+public final class AsyncResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncResultsWriter.class);
+    private static final int BATCH_SIZE = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path outputDirectory;
+    private final int streamThreshold;
+    private final BlockingQueue<PendingFile> queue;
+    private final FileSystemResultsWriter resultsWriter;
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private final AtomicLong filesWritten = new AtomicLong();
+    private final AtomicLong bytesStreamed = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * A result or attachment file waiting to be written.
+     */
+    private interface PendingFile {
+        String fileName();
+
+        void write(byte[] buffer) throws IOException;
+    }
+
+    /**
+     * Create a writer and start its background thread.
+     *
+     * @param outputDirectory Allure results directory
+     * @param queueCapacity   Maximum number of pending files
+     * @param streamThreshold Attachments larger than this (in bytes) are streamed on the calling thread
+     */
+    public AsyncResultsWriter(Path outputDirectory, int queueCapacity, int streamThreshold) {
+        this.outputDirectory = outputDirectory;
+        this.streamThreshold = streamThreshold;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.resultsWriter = new FileSystemResultsWriter(outputDirectory);
+        try {
+            Files.createDirectories(outputDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create Allure results directory: " + outputDirectory, e);
+        }
+
+        this.worker = new Thread(this::drain, "allure-results-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+        this.shutdownHook = new Thread(this::close, "allure-results-flush");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        String fileName = testResult.getUuid() + "-result.json";
+        enqueue(new PendingFile() {
+            @Override
+            public String fileName() {
+                return fileName;
+            }
+
+            @Override
+            public void write(byte[] buffer) {
+                resultsWriter.write(testResult);
+            }
+        });
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        String fileName = testResultContainer.getUuid() + "-container.json";
+        enqueue(new PendingFile() {
+            @Override
+            public String fileName() {
+                return fileName;
+            }
+
+            @Override
+            public void write(byte[] buffer) {
+                resultsWriter.write(testResultContainer);
+            }
+        });
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        try {
+            if (attachment instanceof ByteArrayInputStream) {
+                // Already in memory, hand the stream over as is
+                enqueue(attachmentFile(source, attachment));
+                return;
+            }
+
+            byte[] head = attachment.readNBytes(streamThreshold + 1);
+            if (head.length <= streamThreshold) {
+                attachment.close();
+                enqueue(attachmentFile(source, new ByteArrayInputStream(head)));
+                return;
+            }
+
+            // Too large to buffer: stream it to disk now
+            try (InputStream input = attachment;
+                 OutputStream output = Files.newOutputStream(outputDirectory.resolve(source))) {
+                output.write(head);
+                long size = head.length + input.transferTo(output);
+                bytesStreamed.addAndGet(size);
+                filesWritten.incrementAndGet();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to write Allure attachment: {}", source, e);
+        }
+    }
+
+    private PendingFile attachmentFile(String source, InputStream content) {
+        return new PendingFile() {
+            @Override
+            public String fileName() {
+                return source;
+            }
+
+            @Override
+            public void write(byte[] buffer) throws IOException {
+                try (InputStream input = content;
+                     OutputStream output = new ReusableBufferedOutputStream(
+                             Files.newOutputStream(outputDirectory.resolve(source)), buffer)) {
+                    input.transferTo(output);
+                }
+            }
+        };
+    }
+
+    /**
+     * Queue a file, blocking while the queue is full.
+     * Once the writer is closed files are written on the calling thread.
+     */
+    private void enqueue(PendingFile file) {
+        if (!closed) {
+            try {
+                queue.put(file);
+                if (closed && !worker.isAlive()) {
+                    // Closed while queuing, nobody is left to write it
+                    writeRemaining();
+                }
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeFile(file, new byte[BUFFER_SIZE]);
+    }
+
+    /**
+     * Background loop: wait for a pending file, then write everything that queued up meanwhile.
+     */
+    private void drain() {
+        List<PendingFile> batch = new ArrayList<>(BATCH_SIZE);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingFile first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                for (PendingFile file : batch) {
+                    writeFile(file, buffer);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeRemaining() {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        PendingFile file;
+        while ((file = queue.poll()) != null) {
+            writeFile(file, buffer);
+        }
+    }
+
+    private void writeFile(PendingFile file, byte[] buffer) {
+        try {
+            file.write(buffer);
+            filesWritten.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write Allure result: {}", file.fileName(), e);
+        }
+    }
+
+    /**
+     * Get the number of files waiting to be written.
+     * @return Pending file count
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of files written so far.
+     * @return Written file count
+     */
+    public long getFilesWritten() {
+        return filesWritten.get();
+    }
+
+    /**
+     * Write all pending files and stop the background thread.
+     * Safe to call more than once; also called from the shutdown hook.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(60));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            logger.warn("Timed out flushing Allure results, {} files pending", queue.size());
+        }
+        if (Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // JVM is already shutting down
+            }
+        }
+    }
+
+    /**
+     * BufferedOutputStream over a caller-provided buffer, so the writer thread
+     * does not allocate a new buffer per file.
+     */
+    private static final class ReusableBufferedOutputStream extends BufferedOutputStream {
+        private ReusableBufferedOutputStream(OutputStream out, byte[] buffer) {
+            super(out, 1);
+            this.buf = buffer;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.demoqa.utils;
+
+/**
+ * Single diagnostic artifact captured for a failed scenario.
+ */
+public class FailureArtifact {
+
+    private final FailureArtifacts.Type type;
+    private final String name;
+    private final String mimeType;
+    private final String extension;
+    private final byte[] content;
+
+    /**
+     * Create a failure artifact that is not one of the configurable types (e.g. a browser log).
+     *
+     * @param name      Artifact name
+     * @param mimeType  MIME type of the content
+     * @param extension File extension including the dot
+     * @param content   Artifact bytes
+     */
+    public FailureArtifact(String name, String mimeType, String extension, byte[] content) {
+        this(null, name, mimeType, extension, content);
+    }
+
+    /**
+     * Create a failure artifact.
+     *
+     * @param type      Artifact type, or null if it is not one of the configurable types
+     * @param name      Artifact name
+     * @param mimeType  MIME type of the content
+     * @param extension File extension including the dot
+     * @param content   Artifact bytes
+     */
+    public FailureArtifact(FailureArtifacts.Type type, String name, String mimeType, String extension,
+                           byte[] content) {
+        this.type = type;
+        this.name = name;
+        this.mimeType = mimeType;
+        this.extension = extension;
+        this.content = content;
+    }
+
+    public FailureArtifacts.Type getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+}
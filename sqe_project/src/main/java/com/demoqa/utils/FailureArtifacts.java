@@ -0,0 +1,262 @@
+package com.demoqa.utils;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.driver.BrowserEventLog;
+import com.demoqa.driver.DevToolsSupport;
+import com.demoqa.driver.DriverFactory;
+import com.demoqa.pages.BasePage;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.devtools.DevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Captures the configured mix of diagnostic artifacts for failed scenarios.
+ * Besides the full-page screenshot, supports an element screenshot of the
+ * last element a page object interacted with and compressed DOM snapshots
+ * (outerHTML, or MHTML through CDP on Chromium browsers).
+ * The mix is configured by failure.artifacts and can be overridden per tag
+ * with failure.artifacts.tag.&lt;tag&gt;.
+ */
+public class FailureArtifacts {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureArtifacts.class);
+
+    /**
+     * Artifact types that can be captured on failure.
+     */
+    public enum Type {
+        PAGE("page"),
+        ELEMENT("element"),
+        DOM("dom"),
+        MHTML("mhtml");
+
+        private final String key;
+
+        Type(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Get Type from configuration key.
+         * @param key Configuration key (page, element, dom, mhtml)
+         * @return Type enum
+         */
+        public static Type fromString(String key) {
+            for (Type type : Type.values()) {
+                if (type.getKey().equalsIgnoreCase(key.trim())) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported failure artifact: " + key);
+        }
+    }
+
+    private FailureArtifacts() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Resolve the artifact mix for a scenario.
+     * The first tag with a configured override wins, otherwise the default mix is used.
+     *
+     * @param tags Scenario tags (with leading @)
+     * @return Artifact types to capture
+     */
+    public static Set<Type> resolveTypes(Collection<String> tags) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        String mix = config.getFailureArtifacts();
+        for (String tag : tags) {
+            String override = config.getFailureArtifactsForTag(tag.startsWith("@") ? tag.substring(1) : tag);
+            if (override != null) {
+                mix = override;
+                break;
+            }
+        }
+
+        Set<Type> types = EnumSet.noneOf(Type.class);
+        for (String key : mix.split(",")) {
+            if (!key.isBlank()) {
+                types.add(Type.fromString(key));
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Capture the given artifact types.
+     * Artifacts that cannot be captured (e.g. no tracked element) are skipped.
+     *
+     * @param driver WebDriver instance
+     * @param types  Artifact types to capture
+     * @return Captured artifacts
+     */
+    public static List<FailureArtifact> capture(WebDriver driver, Set<Type> types) {
+        List<FailureArtifact> artifacts = new ArrayList<>();
+        for (Type type : types) {
+            try {
+                captureArtifact(driver, type).ifPresent(artifacts::add);
+            } catch (Exception e) {
+                logger.warn("Failed to capture {} artifact: {}", type.getKey(), e.getMessage());
+            }
+        }
+        return artifacts;
+    }
+
+    private static Optional<FailureArtifact> captureArtifact(WebDriver driver, Type type) {
+        switch (type) {
+            case PAGE:
+                return Optional.of(new FailureArtifact(Type.PAGE, "Page Screenshot", "image/png", ".png",
+                        ScreenshotUtils.getScreenshotBytes(driver)));
+            case ELEMENT:
+                return captureElementScreenshot();
+            case DOM:
+                return Optional.of(captureDom(driver));
+            case MHTML:
+                return captureMhtml(driver);
+            default:
+                throw new IllegalArgumentException("Unsupported failure artifact: " + type);
+        }
+    }
+
+    /**
+     * Screenshot of the last element a page object interacted with.
+     */
+    private static Optional<FailureArtifact> captureElementScreenshot() {
+        WebElement element = BasePage.getLastInteractedElement();
+        if (element == null) {
+            logger.debug("No interacted element tracked, skipping element screenshot");
+            return Optional.empty();
+        }
+        return Optional.of(new FailureArtifact(Type.ELEMENT, "Element Screenshot", "image/png", ".png",
+                element.getScreenshotAs(OutputType.BYTES)));
+    }
+
+    /**
+     * Serialized DOM (outerHTML).
+     */
+    private static FailureArtifact captureDom(WebDriver driver) {
+        String html = (String) ((JavascriptExecutor) driver).executeScript(
+                "return document.documentElement.outerHTML;");
+        return new FailureArtifact(Type.DOM, "DOM Snapshot", "text/html", ".html",
+                html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * MHTML page snapshot through CDP. Falls back to outerHTML.
+     */
+    private static Optional<FailureArtifact> captureMhtml(WebDriver driver) {
+        Optional<DevTools> devTools = DevToolsSupport.openSession(driver);
+        if (devTools.isEmpty()) {
+            logger.debug("MHTML snapshot requires CDP, falling back to outerHTML");
+            return Optional.of(captureDom(driver));
+        }
+        Map<String, Object> result = devTools.get().send(
+                DevToolsSupport.command("Page.captureSnapshot", Map.of("format", "mhtml")));
+        String mhtml = (String) result.get("data");
+        return Optional.of(new FailureArtifact(Type.MHTML, "MHTML Snapshot", "multipart/related", ".mhtml",
+                mhtml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Gzip text based artifacts (DOM, MHTML, logs) before they are attached individually.
+     *
+     * @param artifact Uncompressed artifact
+     * @return Compressed artifact, or the artifact itself if it is already compressed (PNG)
+     * @throws IOException if compression fails
+     */
+    public static FailureArtifact compress(FailureArtifact artifact) throws IOException {
+        if (artifact.getMimeType().startsWith("image/")) {
+            return artifact;
+        }
+        return new FailureArtifact(artifact.getType(), artifact.getName(), "application/gzip",
+                artifact.getExtension() + ".gz", gzip(artifact.getContent()));
+    }
+
+    /**
+     * Gzip compress bytes.
+     *
+     * @param data Uncompressed bytes
+     * @return Compressed bytes
+     * @throws IOException if compression fails
+     */
+    public static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(512, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Capture the configured artifact mix for a failed scenario and attach it to Allure.
+     * Text artifacts are gzip compressed before they are attached.
+     * The full-page screenshot, if in the mix, is also saved to the screenshot directory.
+     *
+     * @param driver   WebDriver instance
+     * @param testName Failed test name
+     * @param tags     Scenario tags
+     */
+    public static void captureOnFailure(WebDriver driver, String testName, Collection<String> tags) {
+        Set<Type> types = resolveTypes(tags);
+        long totalBytes = 0;
+        for (FailureArtifact artifact : capture(driver, types)) {
+            try {
+                if (artifact.getType() == Type.PAGE) {
+                    // Same bytes as the attachment, the page is captured once
+                    ScreenshotUtils.saveScreenshot(artifact.getContent(),
+                            "FAILED_" + testName.replaceAll("[^a-zA-Z0-9]", "_"));
+                }
+                FailureArtifact compressed = compress(artifact);
+                Allure.addAttachment(compressed.getName() + " - " + testName, compressed.getMimeType(),
+                        new ByteArrayInputStream(compressed.getContent()), compressed.getExtension());
+                totalBytes += compressed.getContent().length;
+            } catch (IOException e) {
+                logger.error("Failed to attach {} artifact", artifact.getName(), e);
+            }
+        }
+        logger.info("Attached failure artifacts {} ({} bytes)", types, totalBytes);
+    }
+
+    /**
+     * Capture the configured artifact mix plus browser console and network logs
+     * and write them asynchronously as a single zip bundle.
+     *
+     * @param driver   WebDriver instance
+     * @param testName Failed test name
+     * @param tags     Scenario tags
+     */
+    public static void bundleOnFailure(WebDriver driver, String testName, Collection<String> tags) {
+        List<FailureArtifact> artifacts = capture(driver, resolveTypes(tags));
+
+        BrowserEventLog eventLog = DriverFactory.getBrowserEventLog();
+        if (eventLog != null) {
+            artifacts.add(new FailureArtifact("Console Log", "text/plain", ".log",
+                    eventLog.getConsoleLog().getBytes(StandardCharsets.UTF_8)));
+            artifacts.add(new FailureArtifact("Network Log", "text/plain", ".log",
+                    eventLog.getNetworkLog().getBytes(StandardCharsets.UTF_8)));
+        }
+        FailureBundleWriter.getInstance().writeAsync(testName, artifacts);
+    }
+}
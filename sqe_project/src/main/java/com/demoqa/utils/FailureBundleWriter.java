@@ -0,0 +1,189 @@
+package com.demoqa.utils;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.metrics.SuiteCounters;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes per-failure bundles (screenshot, DOM, console and network logs)
+ * into a single deflate-compressed zip. Bundles are streamed to disk on a
+ * background thread and attached to Allure once written. Each bundle is
+ * capped in size: entries that would exceed the cap are left out and listed
+ * in a TRUNCATED.txt entry.
+ */
+public final class FailureBundleWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureBundleWriter.class);
+    private static final int MAX_PENDING_BUNDLES = 16;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ThreadPoolExecutor executor;
+
+    private static final class Holder {
+        private static final FailureBundleWriter INSTANCE = new FailureBundleWriter(
+                Paths.get(ConfigurationManager.getInstance().getFailureBundleDirectory()),
+                ConfigurationManager.getInstance().getFailureBundleMaxBytes());
+    }
+
+    private FailureBundleWriter(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create failure bundle directory: " + directory, e);
+        }
+
+        // Bounded queue, the test thread writes the bundle itself when the writer falls behind
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_BUNDLES), runnable -> {
+                    Thread thread = new Thread(runnable, "failure-bundle-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "failure-bundle-flush"));
+        SuiteCounters.registerQueue("failure_bundles", this::getPendingCount);
+    }
+
+    /**
+     * Get the shared bundle writer.
+     * @return FailureBundleWriter instance
+     */
+    public static FailureBundleWriter getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Write a bundle asynchronously and attach it to the current Allure test.
+     * The attachment is registered on the calling (test) thread, its content
+     * is written once the zip is complete.
+     *
+     * @param testName  Failed test name
+     * @param artifacts Artifacts to bundle, in priority order
+     */
+    public void writeAsync(String testName, List<FailureArtifact> artifacts) {
+        String baseName = "FAILED_" + testName.replaceAll("[^a-zA-Z0-9]", "_");
+        Path target = directory.resolve(ScreenshotUtils.uniqueFileName(baseName, "zip"));
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment("Failure Bundle - " + testName, "application/zip", ".zip");
+
+        executor.execute(() -> {
+            try {
+                long size = writeBundle(target, artifacts);
+                try (InputStream input = Files.newInputStream(target)) {
+                    lifecycle.writeAttachment(source, input);
+                }
+                logger.info("Failure bundle written: {} ({} bytes, {} entries)", target, size, artifacts.size());
+            } catch (Exception e) {
+                logger.error("Failed to write failure bundle: {}", target, e);
+            }
+        });
+    }
+
+    /**
+     * Stream artifacts into a zip file, respecting the size cap.
+     * @return Size of the written bundle in bytes
+     */
+    private long writeBundle(Path target, List<FailureArtifact> artifacts) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        CountingOutputStream counter = new CountingOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp)));
+        StringBuilder skipped = new StringBuilder();
+
+        try (ZipOutputStream zip = new ZipOutputStream(counter)) {
+            zip.setMethod(ZipOutputStream.DEFLATED);
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+
+            int index = 1;
+            for (FailureArtifact artifact : artifacts) {
+                String entryName = String.format("%02d-%s%s", index++,
+                        artifact.getName().replaceAll("[^a-zA-Z0-9]+", "-").toLowerCase(), artifact.getExtension());
+                // Compressed size is unknown upfront, so check against the raw size of the entry
+                if (counter.count + artifact.getContent().length > maxBytes) {
+                    skipped.append(entryName).append(" (").append(artifact.getContent().length).append(" bytes)\n");
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(entryName));
+                zip.write(artifact.getContent());
+                zip.closeEntry();
+            }
+
+            if (skipped.length() > 0) {
+                zip.putNextEntry(new ZipEntry("TRUNCATED.txt"));
+                zip.write(("Bundle size cap of " + maxBytes + " bytes reached, skipped entries:\n" + skipped)
+                        .getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return counter.count;
+    }
+
+    /**
+     * Get the number of bundles queued or being written.
+     * @return Pending bundle count
+     */
+    public int getPendingCount() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Wait until all pending bundles are written and stop the writer.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                logger.warn("Timed out waiting for failure bundles to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Output stream that counts written bytes.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
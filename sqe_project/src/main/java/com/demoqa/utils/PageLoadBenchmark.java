@@ -0,0 +1,94 @@
+package com.demoqa.utils;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.driver.DriverFactory;
+import com.demoqa.driver.NetworkBlocker;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Measures page load times and renderer memory of the tested pages in three modes: unblocked, with ads and
+ * trackers blocked, and resource-light (ads, images, fonts and media blocked, no animations).
+ * All modes run in the same browser with its cache disabled, rotating per page and round so that
+ * changes in network conditions affect them alike. Needs Chrome or Edge and network.blocking.enabled.
+ *
+ * Run: mvn compile exec:java -Dexec.mainClass="com.demoqa.utils.PageLoadBenchmark"
+ * Optional arguments: rounds, comma-separated paths (relative to base.url).
+ */
+public class PageLoadBenchmark {
+
+    private static final String DEFAULT_PATHS = "/text-box,/automation-practice-form,/books,/login";
+    private static final List<String> MODES = List.of("unblocked", "blocked", "light");
+    private static final String NAVIGATION_TIMING = "var nav = performance.getEntriesByType('navigation')[0];"
+            + " var resources = performance.getEntriesByType('resource');"
+            + " var bytes = resources.reduce(function (sum, r) { return sum + (r.transferSize || 0); }, 0);"
+            + " var heap = performance.memory ? performance.memory.usedJSHeapSize : 0;"
+            + " return [nav.domContentLoadedEventEnd, nav.loadEventEnd, resources.length, bytes, heap];";
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<String> paths = Arrays.asList((args.length > 1 ? args[1] : DEFAULT_PATHS).split(","));
+        String baseUrl = ConfigurationManager.getInstance().getBaseUrl();
+
+        WebDriver driver = DriverFactory.getDriver();
+        try {
+            NetworkBlocker blocker = DriverFactory.getNetworkBlocker();
+            if (blocker == null) {
+                System.out.println("Network blocking is not active: it needs Chrome or Edge "
+                        + "and network.blocking.enabled=true");
+                return;
+            }
+            blocker.setCacheDisabled(true);
+            System.out.printf("Base URL: %s, rounds: %d, cache disabled%n", baseUrl, rounds);
+
+            Map<String, List<double[]>> samples = new TreeMap<>();
+            for (int round = 0; round <= rounds; round++) {
+                for (String path : paths) {
+                    for (int i = 0; i < MODES.size(); i++) {
+                        String mode = MODES.get((round + i) % MODES.size());
+                        blocker.setBlocking(!"unblocked".equals(mode));
+                        blocker.setResourceLight("light".equals(mode));
+                        double[] timing = load(driver, baseUrl + path);
+                        // Round 0 warms up the browser and the servers
+                        if (round > 0) {
+                            samples.computeIfAbsent(path + " " + mode, key -> new ArrayList<>()).add(timing);
+                        }
+                    }
+                }
+            }
+
+            System.out.printf("%n%-42s %10s %10s %10s %10s %10s%n",
+                    "Page", "DCL ms", "Load ms", "Requests", "KB", "Heap MB");
+            samples.forEach((name, values) -> System.out.printf("%-42s %10.0f %10.0f %10.0f %10.0f %10.1f%n",
+                    name, median(values, 0), median(values, 1), median(values, 2), median(values, 3) / 1024,
+                    median(values, 4) / (1024 * 1024)));
+            System.out.println("(medians; DCL = DOMContentLoaded, KB = transferred bytes of subresources, "
+                    + "Heap = used JS heap after load)");
+        } finally {
+            DriverFactory.quitDriver();
+        }
+    }
+
+    private static double[] load(WebDriver driver, String url) {
+        driver.get("about:blank");
+        driver.get(url);
+        List<?> values = (List<?>) ((JavascriptExecutor) driver).executeScript(NAVIGATION_TIMING);
+        double[] timing = new double[values.size()];
+        for (int i = 0; i < timing.length; i++) {
+            timing[i] = ((Number) values.get(i)).doubleValue();
+        }
+        return timing;
+    }
+
+    private static double median(List<double[]> values, int index) {
+        double[] sorted = values.stream().mapToDouble(timing -> timing[index]).sorted().toArray();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
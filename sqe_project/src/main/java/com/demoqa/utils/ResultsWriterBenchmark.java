@@ -0,0 +1,136 @@
+package com.demoqa.utils;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Compares the default Allure FileSystemResultsWriter with {@link AsyncResultsWriter}
+ * using parallel workers that write results shaped like the framework's scenarios
+ * (nested steps and screenshot-sized attachments).
+ *
+ * Run: mvn compile exec:java -Dexec.mainClass="com.demoqa.utils.ResultsWriterBenchmark"
+ * Optional arguments: workers, scenarios per worker, attachments per scenario,
+ * browser time per scenario in ms (simulated work between writes, 0 for write-only load).
+ */
+public class ResultsWriterBenchmark {
+
+    private static final int STEPS_PER_SCENARIO = 120;
+    private static final int SCREENSHOT_BYTES = 150 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        int workers = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int scenarios = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        int attachments = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int browserMillis = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        byte[] screenshot = new byte[SCREENSHOT_BYTES];
+        new Random(42).nextBytes(screenshot);
+
+        System.out.printf("Workers: %d, scenarios per worker: %d, attachments per scenario: %d (%d KB), "
+                + "browser time per scenario: %d ms%n",
+                workers, scenarios, attachments, SCREENSHOT_BYTES / 1024, browserMillis);
+
+        // Warm-up round for both writers, then the measured round
+        for (int round = 0; round < 2; round++) {
+            boolean report = round == 1;
+            run("default", FileSystemResultsWriter::new, workers, scenarios, attachments, browserMillis,
+                    screenshot, report);
+            run("async", directory -> new AsyncResultsWriter(directory, 1000, 1024 * 1024),
+                    workers, scenarios, attachments, browserMillis, screenshot, report);
+        }
+    }
+
+    private static void run(String name, Function<Path, AllureResultsWriter> factory, int workers,
+                            int scenarios, int attachments, int browserMillis, byte[] screenshot,
+                            boolean report) throws Exception {
+        Path directory = Files.createTempDirectory("allure-writer-" + name);
+        AllureResultsWriter writer = factory.apply(directory);
+        LongAdder callerNanos = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            futures.add(executor.submit(() -> {
+                for (int s = 0; s < scenarios; s++) {
+                    writeScenario(writer, attachments, screenshot, callerNanos);
+                    Thread.sleep(browserMillis);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long submitted = System.nanoTime();
+        if (writer instanceof AutoCloseable) {
+            ((AutoCloseable) writer).close();
+        }
+        long flushed = System.nanoTime();
+        executor.shutdown();
+
+        long files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.count();
+        }
+        if (report) {
+            int writes = workers * scenarios * (attachments + 2);
+            System.out.printf("%-8s caller time %7.1f ms total, %6.1f us per write | "
+                            + "workers done %6.0f ms | flushed %6.0f ms | %d files%n",
+                    name, callerNanos.sum() / 1e6, callerNanos.sum() / 1e3 / writes,
+                    (submitted - start) / 1e6, (flushed - start) / 1e6, files);
+        }
+        deleteDirectory(directory);
+    }
+
+    private static void writeScenario(AllureResultsWriter writer, int attachments, byte[] screenshot,
+                                      LongAdder callerNanos) {
+        TestResult result = new TestResult()
+                .setUuid(UUID.randomUUID().toString())
+                .setName("Benchmark scenario")
+                .setStatus(Status.PASSED);
+        for (int i = 0; i < STEPS_PER_SCENARIO; i++) {
+            result.getSteps().add(new StepResult().setName("Type text: value " + i).setStatus(Status.PASSED)
+                    .setStart(System.currentTimeMillis()).setStop(System.currentTimeMillis()));
+        }
+
+        for (int i = 0; i < attachments; i++) {
+            String source = UUID.randomUUID() + "-attachment.png";
+            long start = System.nanoTime();
+            writer.write(source, new ByteArrayInputStream(screenshot));
+            callerNanos.add(System.nanoTime() - start);
+        }
+
+        long start = System.nanoTime();
+        writer.write(result);
+        writer.write(new TestResultContainer().setUuid(UUID.randomUUID().toString())
+                .setChildren(List.of(result.getUuid())));
+        callerNanos.add(System.nanoTime() - start);
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
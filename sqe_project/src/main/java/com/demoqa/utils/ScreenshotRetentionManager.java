@@ -0,0 +1,204 @@
+package com.demoqa.utils;
+
+import com.demoqa.config.ConfigurationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the screenshot directory within a byte cap and a maximum file age.
+ * Files are tracked in an in-memory index in write order, so the background sweep
+ * never has to re-scan the directory and evicts the oldest files first (FIFO):
+ * screenshots are only written, never read back, so write order is also use order.
+ * Each sweep deletes a bounded number of files to keep the work incremental.
+ */
+public final class ScreenshotRetentionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScreenshotRetentionManager.class);
+    private static final int MAX_DELETIONS_PER_SWEEP = 100;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxAgeMillis;
+    private final Map<Path, TrackedFile> index = new LinkedHashMap<>();
+    private long totalBytes;
+
+    private static final class TrackedFile {
+        private final long size;
+        private final long lastModified;
+
+        private TrackedFile(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static final class Holder {
+        private static final ScreenshotRetentionManager INSTANCE = create();
+    }
+
+    private ScreenshotRetentionManager(Path directory, long maxBytes, Duration maxAge) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.maxAgeMillis = maxAge.toMillis();
+    }
+
+    /**
+     * Get the retention manager for the configured screenshot directory.
+     * The directory is created and indexed once, on first access.
+     * @return ScreenshotRetentionManager instance
+     */
+    public static ScreenshotRetentionManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static ScreenshotRetentionManager create() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        ScreenshotRetentionManager manager = new ScreenshotRetentionManager(
+                Paths.get(config.getScreenshotDirectory()),
+                config.getScreenshotRetentionMaxBytes(),
+                Duration.ofHours(config.getScreenshotRetentionMaxAgeHours()));
+        manager.initialize();
+
+        long interval = config.getScreenshotRetentionIntervalSeconds();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "screenshot-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(manager::sweepQuietly, 0, interval, TimeUnit.SECONDS);
+        return manager;
+    }
+
+    /**
+     * Create the directory and index files left by previous runs.
+     */
+    private void initialize() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create screenshot directory: " + directory, e);
+        }
+
+        List<Map.Entry<Path, TrackedFile>> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        existing.add(Map.entry(file, new TrackedFile(attributes.size(),
+                                attributes.lastModifiedTime().toMillis())));
+                    }
+                } catch (IOException e) {
+                    logger.debug("Could not read attributes of {}", file);
+                }
+            });
+        } catch (IOException e) {
+            logger.error("Failed to index screenshot directory: {}", directory, e);
+        }
+
+        existing.sort((a, b) -> Long.compare(a.getValue().lastModified, b.getValue().lastModified));
+        synchronized (this) {
+            for (Map.Entry<Path, TrackedFile> entry : existing) {
+                index.put(entry.getKey(), entry.getValue());
+                totalBytes += entry.getValue().size;
+            }
+        }
+        logger.info("Screenshot retention: {} existing files ({} bytes) in {}", existing.size(), totalBytes, directory);
+    }
+
+    /**
+     * Get the managed screenshot directory.
+     * @return Screenshot directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Register a newly written file so it is subject to retention.
+     * @param file File path
+     * @param size File size in bytes
+     */
+    public synchronized void register(Path file, long size) {
+        // Remove first, so a rewritten file moves to the end of the write order
+        TrackedFile previous = index.remove(file);
+        index.put(file, new TrackedFile(size, System.currentTimeMillis()));
+        totalBytes += size - (previous != null ? previous.size : 0);
+    }
+
+    /**
+     * Get total size of tracked files.
+     * @return Size in bytes
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            logger.warn("Screenshot retention sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Delete expired files and evict the oldest files over the byte cap.
+     * At most {@value #MAX_DELETIONS_PER_SWEEP} files are deleted per call.
+     * @return Number of deleted files
+     */
+    public int sweep() {
+        List<Path> victims = selectVictims(System.currentTimeMillis() - maxAgeMillis);
+        int deleted = 0;
+        for (Path victim : victims) {
+            try {
+                Files.delete(victim);
+                deleted++;
+            } catch (NoSuchFileException e) {
+                // Already removed externally, nothing to do
+            } catch (IOException e) {
+                logger.debug("Could not delete {}: {}", victim, e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            logger.debug("Screenshot retention deleted {} files, {} bytes retained", deleted, getTotalBytes());
+        }
+        return deleted;
+    }
+
+    /**
+     * Pick files to delete and remove them from the index.
+     */
+    private synchronized List<Path> selectVictims(long expiryThreshold) {
+        List<Path> victims = new ArrayList<>();
+        Iterator<Map.Entry<Path, TrackedFile>> iterator = index.entrySet().iterator();
+        while (iterator.hasNext() && victims.size() < MAX_DELETIONS_PER_SWEEP) {
+            Map.Entry<Path, TrackedFile> eldest = iterator.next();
+            boolean expired = eldest.getValue().lastModified < expiryThreshold;
+            if (!expired && totalBytes <= maxBytes) {
+                break;
+            }
+            victims.add(eldest.getKey());
+            totalBytes -= eldest.getValue().size;
+            iterator.remove();
+        }
+        return victims;
+    }
+}
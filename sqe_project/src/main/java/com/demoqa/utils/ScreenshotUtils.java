@@ -1,5 +1,9 @@
 package com.demoqa.utils;
 
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.jfr.FlightEvents;
+import com.demoqa.jfr.ScreenshotEvent;
+import com.demoqa.metrics.SuiteCounters;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -7,13 +11,19 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for capturing screenshots.
@@ -22,7 +32,10 @@ import java.time.format.DateTimeFormatter;
 public class ScreenshotUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ScreenshotUtils.class);
-    private static final String SCREENSHOT_DIR = "target/screenshots";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+    private static final long PROCESS_ID = ProcessHandle.current().pid();
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final int MAX_WIDTH = ConfigurationManager.getInstance().getScreenshotMaxWidth();
 
     private ScreenshotUtils() {
         // Private constructor to prevent instantiation
@@ -37,31 +50,45 @@ public class ScreenshotUtils {
      */
     public static String captureScreenshot(WebDriver driver, String name) {
         try {
-            // Create screenshot directory if it doesn't exist
-            Path screenshotDir = Paths.get(SCREENSHOT_DIR);
-            if (!Files.exists(screenshotDir)) {
-                Files.createDirectories(screenshotDir);
-            }
-
-            // Generate filename with timestamp
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = String.format("%s_%s.png", name, timestamp);
-            Path filePath = screenshotDir.resolve(fileName);
-
-            // Capture screenshot
-            TakesScreenshot ts = (TakesScreenshot) driver;
-            byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
-            Files.write(filePath, screenshot);
-
-            logger.info("Screenshot saved: {}", filePath);
-            return filePath.toString();
-
+            return saveScreenshot(takeScreenshot(driver, name), name);
         } catch (IOException e) {
             logger.error("Failed to capture screenshot", e);
             return null;
         }
     }
 
+    /**
+     * Save a screenshot that has already been taken, e.g. one that is also attached to Allure.
+     * 
+     * @param screenshot PNG bytes
+     * @param name       Screenshot name
+     * @return Path to saved screenshot
+     * @throws IOException if the file cannot be written
+     */
+    public static String saveScreenshot(byte[] screenshot, String name) throws IOException {
+        // Directory is created once by the retention manager
+        ScreenshotRetentionManager retention = ScreenshotRetentionManager.getInstance();
+        Path filePath = retention.getDirectory().resolve(uniqueFileName(name, "png"));
+        Files.write(filePath, screenshot);
+        retention.register(filePath, screenshot.length);
+
+        logger.info("Screenshot saved: {}", filePath);
+        return filePath.toString();
+    }
+
+    /**
+     * Build a file name that is unique across threads and parallel JVM forks.
+     * Format: name_yyyyMMdd_HHmmss_SSS_pid-sequence.extension
+     *
+     * @param name      Base name
+     * @param extension File extension without dot
+     * @return Unique file name
+     */
+    static String uniqueFileName(String name, String extension) {
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
+        return String.format("%s_%s_%d-%d.%s", name, timestamp, PROCESS_ID, sequence.incrementAndGet(), extension);
+    }
+
     /**
      * Capture screenshot and attach to Allure report.
      * 
@@ -70,8 +97,7 @@ public class ScreenshotUtils {
      */
     public static void attachScreenshot(WebDriver driver, String name) {
         try {
-            TakesScreenshot ts = (TakesScreenshot) driver;
-            byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
+            byte[] screenshot = takeScreenshot(driver, name);
 
             Allure.addAttachment(name, "image/png", new ByteArrayInputStream(screenshot), ".png");
             logger.info("Screenshot attached to Allure: {}", name);
@@ -90,12 +116,15 @@ public class ScreenshotUtils {
      */
     public static void captureOnFailure(WebDriver driver, String testName) {
         String cleanName = testName.replaceAll("[^a-zA-Z0-9]", "_");
-
-        // Save to file
-        captureScreenshot(driver, "FAILED_" + cleanName);
-
-        // Attach to Allure
-        attachScreenshot(driver, "Failure Screenshot - " + testName);
+        try {
+            // One screenshot for both the file and the attachment
+            byte[] screenshot = takeScreenshot(driver, "FAILED_" + cleanName);
+            saveScreenshot(screenshot, "FAILED_" + cleanName);
+            Allure.addAttachment("Failure Screenshot - " + testName, "image/png",
+                    new ByteArrayInputStream(screenshot), ".png");
+        } catch (Exception e) {
+            logger.error("Failed to capture failure screenshot", e);
+        }
     }
 
     /**
@@ -105,8 +134,7 @@ public class ScreenshotUtils {
      * @return Screenshot bytes
      */
     public static byte[] getScreenshotBytes(WebDriver driver) {
-        TakesScreenshot ts = (TakesScreenshot) driver;
-        return ts.getScreenshotAs(OutputType.BYTES);
+        return takeScreenshot(driver, "bytes");
     }
 
     /**
@@ -116,7 +144,74 @@ public class ScreenshotUtils {
      * @return Base64 encoded screenshot
      */
     public static String getScreenshotBase64(WebDriver driver) {
+        if (MAX_WIDTH > 0) {
+            return Base64.getEncoder().encodeToString(takeScreenshot(driver, "base64"));
+        }
+        ScreenshotEvent event = beginEvent();
         TakesScreenshot ts = (TakesScreenshot) driver;
-        return ts.getScreenshotAs(OutputType.BASE64);
+        String screenshot = ts.getScreenshotAs(OutputType.BASE64);
+        commitEvent(event, "base64", screenshot.length());
+        return screenshot;
+    }
+
+    /**
+     * Capture a PNG screenshot, downscaled to screenshot.max.width if set,
+     * counting it and emitting a JFR event when enabled.
+     */
+    private static byte[] takeScreenshot(WebDriver driver, String name) {
+        ScreenshotEvent event = beginEvent();
+        TakesScreenshot ts = (TakesScreenshot) driver;
+        byte[] screenshot = ts.getScreenshotAs(OutputType.BYTES);
+        if (MAX_WIDTH > 0) {
+            screenshot = downscale(screenshot, MAX_WIDTH);
+        }
+        commitEvent(event, name, screenshot.length);
+        return screenshot;
+    }
+
+    /**
+     * Scale a PNG down to the given width, keeping the aspect ratio.
+     * Returns the original bytes if it is not wider or cannot be decoded.
+     */
+    static byte[] downscale(byte[] png, int maxWidth) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null || image.getWidth() <= maxWidth) {
+                return png;
+            }
+            int height = Math.max(1, (int) Math.round((double) image.getHeight() * maxWidth / image.getWidth()));
+            BufferedImage scaled = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(image, 0, 0, maxWidth, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream(png.length / 2);
+            ImageIO.write(scaled, "png", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            logger.warn("Could not downscale screenshot: {}", e.getMessage());
+            return png;
+        }
+    }
+
+    private static ScreenshotEvent beginEvent() {
+        if (!FlightEvents.isEnabled()) {
+            return null;
+        }
+        ScreenshotEvent event = new ScreenshotEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commitEvent(ScreenshotEvent event, String name, long size) {
+        SuiteCounters.screenshotCaptured(size);
+        if (event != null) {
+            event.name = name;
+            event.size = size;
+            event.commit();
+        }
     }
 }
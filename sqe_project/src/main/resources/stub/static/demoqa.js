@@ -0,0 +1,46 @@
+/* Helpers shared by the local DemoQA stand-in pages. */
+var demoqa = (function () {
+
+    function el(tag, attributes, children) {
+        var node = document.createElement(tag);
+        Object.keys(attributes || {}).forEach(function (name) {
+            if (name === 'text') {
+                node.textContent = attributes[name];
+            } else {
+                node.setAttribute(name, attributes[name]);
+            }
+        });
+        (children || []).forEach(function (child) {
+            node.appendChild(typeof child === 'string' ? document.createTextNode(child) : child);
+        });
+        return node;
+    }
+
+    function getCookie(name) {
+        var match = document.cookie.split('; ').filter(function (c) { return c.indexOf(name + '=') === 0; })[0];
+        return match ? decodeURIComponent(match.substring(name.length + 1)) : null;
+    }
+
+    function setCookie(name, value) {
+        document.cookie = name + '=' + encodeURIComponent(value) + '; path=/';
+    }
+
+    function deleteCookie(name) {
+        document.cookie = name + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+    }
+
+    function api(method, path, body, token) {
+        var headers = { 'Content-Type': 'application/json' };
+        if (token) {
+            headers.Authorization = 'Bearer ' + token;
+        }
+        return fetch(path, { method: method, headers: headers, body: body ? JSON.stringify(body) : undefined })
+            .then(function (response) {
+                return response.text().then(function (text) {
+                    return { status: response.status, body: text ? JSON.parse(text) : null };
+                });
+            });
+    }
+
+    return { el: el, getCookie: getCookie, setCookie: setCookie, deleteCookie: deleteCookie, api: api };
+})();
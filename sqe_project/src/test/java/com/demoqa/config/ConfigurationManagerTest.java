@@ -0,0 +1,174 @@
+package com.demoqa.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Source layering, profiles and validation of the configuration.
+ */
+class ConfigurationManagerTest {
+
+    @TempDir
+    Path directory;
+
+    private final Map<String, Properties> resources = new HashMap<>();
+    private final Map<String, String> environment = new HashMap<>();
+    private final Properties systemProperties = new Properties();
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    private ConfigurationManager load() {
+        return ConfigurationManager.load(resources::get, environment, systemProperties);
+    }
+
+    @Test
+    void laterSourcesOverrideEarlierOnes() throws IOException {
+        resources.put("config.properties", properties("profile", "ci",
+                "a", "base", "b", "base", "c", "base", "d", "base", "e", "base"));
+        resources.put("config-ci.properties",
+                properties("b", "profile", "c", "profile", "d", "profile", "e", "profile"));
+        Path file = directory.resolve("local.properties");
+        Files.writeString(file, "c=file\nd=file\ne=file\n");
+        systemProperties.setProperty("config.file", file.toString());
+        environment.put("DEMOQA_D", "environment");
+        environment.put("DEMOQA_E", "environment");
+        systemProperties.setProperty("e", "system");
+
+        ConfigurationManager config = load();
+
+        assertThat(config.getProperty("a")).isEqualTo("base");
+        assertThat(config.getProperty("b")).isEqualTo("profile");
+        assertThat(config.getProperty("c")).isEqualTo("file");
+        assertThat(config.getProperty("d")).isEqualTo("environment");
+        assertThat(config.getProperty("e")).isEqualTo("system");
+        assertThat(config.getSources()).containsExactly("config.properties", "profile ci", file.toString(),
+                "environment", "system properties");
+        assertThat(config.describe()).contains("b = profile [profile ci]", "d = environment [environment]");
+    }
+
+    @Test
+    void environmentVariablesMapToPropertyNames() {
+        resources.put("config.properties", properties("base.url", "https://base.example"));
+        environment.put("DEMOQA_BASE_URL", " https://env.example ");
+        environment.put("DEMOQA_IMPLICIT_WAIT", "3");
+        environment.put("OTHER_IMPLICIT_WAIT", "7");
+
+        ConfigurationManager config = load();
+
+        assertThat(config.getBaseUrl()).isEqualTo("https://env.example");
+        assertThat(config.getImplicitWait()).isEqualTo(3);
+    }
+
+    @Test
+    void profilesOverlayInOrder() {
+        resources.put("config.properties", properties("browser", "chrome", "implicit.wait", "10"));
+        resources.put("config-one.properties", properties("browser", "firefox", "implicit.wait", "1"));
+        resources.put("config-two.properties", properties("implicit.wait", "2"));
+        environment.put("DEMOQA_PROFILE", "one, two");
+
+        ConfigurationManager config = load();
+
+        assertThat(config.getProfiles()).containsExactly("one", "two");
+        assertThat(config.getBrowser()).isEqualTo("firefox");
+        assertThat(config.getImplicitWait()).isEqualTo(2);
+    }
+
+    @Test
+    void systemPropertySelectsProfileOverEnvironmentAndConfig() {
+        resources.put("config.properties", properties("profile", "one"));
+        resources.put("config-one.properties", properties("explicit.wait", "1"));
+        resources.put("config-two.properties", properties("explicit.wait", "2"));
+        resources.put("config-three.properties", properties("explicit.wait", "3"));
+        environment.put("DEMOQA_PROFILE", "two");
+        systemProperties.setProperty("profile", "three");
+
+        assertThat(load().getExplicitWait()).isEqualTo(3);
+        systemProperties.remove("profile");
+        assertThat(load().getExplicitWait()).isEqualTo(2);
+        environment.remove("DEMOQA_PROFILE");
+        assertThat(load().getExplicitWait()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownProfileFails() {
+        resources.put("config.properties", properties());
+        systemProperties.setProperty("profile", "nightly");
+
+        assertThatThrownBy(this::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Unknown configuration profile: nightly")
+                .hasMessageContaining("config-nightly.properties");
+    }
+
+    @Test
+    void missingConfigurationFails() {
+        assertThatThrownBy(this::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Configuration not found");
+    }
+
+    @Test
+    void defaultsApplyWhenUnset() {
+        resources.put("config.properties", properties());
+
+        ConfigurationManager config = load();
+
+        assertThat(config.getBaseUrl()).isEqualTo("https://demoqa.com");
+        assertThat(config.getApiBaseUrl()).isEqualTo("https://demoqa.com");
+        assertThat(config.getImplicitWait()).isEqualTo(10);
+        assertThat(config.isHeadless()).isFalse();
+        assertThat(config.isMetricsEnabled()).isFalse();
+        assertThat(config.isSessionSnapshotEnabled()).isFalse();
+    }
+
+    @Test
+    void invalidValuesAreReportedTogether() {
+        resources.put("config.properties", properties(
+                "implicit.wait", "-1",
+                "api.max.concurrency", "1000",
+                "explicit.wait", "fifteen",
+                "headless", "yes",
+                "browser", "safari",
+                "traffic.cache.exclude", "/ok/,[unclosed"));
+
+        assertThatThrownBy(this::load)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Invalid configuration (config.properties, environment, system properties)")
+                .hasMessageContaining("implicit.wait=-1 (expected a whole number >= 0)")
+                .hasMessageContaining("api.max.concurrency=1000 (expected a whole number between 1 and 256)")
+                .hasMessageContaining("explicit.wait=fifteen")
+                .hasMessageContaining("headless=yes (expected true or false)")
+                .hasMessageContaining("browser=safari (expected one of chrome, firefox, edge)")
+                .hasMessageContaining("traffic.cache.exclude contains an invalid pattern: [unclosed");
+    }
+
+    @Test
+    void valuesAtRangeBoundsAreAccepted() {
+        resources.put("config.properties", properties("api.max.concurrency", "256", "implicit.wait", "0",
+                "headless", " TRUE ", "traffic.cache.exclude", "/a/, /b/"));
+
+        ConfigurationManager config = load();
+
+        assertThat(config.getApiMaxConcurrency()).isEqualTo(256);
+        assertThat(config.getImplicitWait()).isZero();
+        assertThat(config.isHeadless()).isTrue();
+        assertThat(config.getTrafficCacheExcludes()).extracting(Object::toString).isEqualTo(List.of("/a/", "/b/"));
+    }
+}
@@ -1,11 +1,16 @@
 package com.demoqa.context;
 
+import com.demoqa.api.ApiUser;
+import com.demoqa.api.BookStoreClient;
+import com.demoqa.api.CredentialPool;
 import com.demoqa.driver.DriverFactory;
 import com.demoqa.pages.*;
 import com.demoqa.utils.ExcelDataReader;
 import org.openqa.selenium.WebDriver;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -17,6 +22,9 @@ public class TestContext {
     private WebDriver driver;
     private final Map<String, Object> scenarioData;
     private ExcelDataReader excelDataReader;
+    private BookStoreClient bookStoreClient;
+    private final List<ApiUser> apiUsers = new ArrayList<>();
+    private ApiUser pooledAccount;
 
     // Page Objects
     private HomePage homePage;
@@ -24,6 +32,7 @@ public class TestContext {
     private PracticeFormPage practiceFormPage;
     private LoginPage loginPage;
     private BookStorePage bookStorePage;
+    private ProfilePage profilePage;
 
     public TestContext() {
         this.scenarioData = new HashMap<>();
@@ -92,6 +101,77 @@ public class TestContext {
         }
     }
 
+    /**
+     * Get the BookStore API client of this scenario.
+     * 
+     * @return BookStoreClient for api.base.url, or the address set by {@link #useApiBaseUrl(String)}
+     */
+    public BookStoreClient getBookStoreClient() {
+        if (bookStoreClient == null) {
+            bookStoreClient = new BookStoreClient();
+        }
+        return bookStoreClient;
+    }
+
+    /**
+     * Send this scenario's API requests to another address, e.g. the local stub.
+     * 
+     * @param baseUrl API base URL
+     */
+    public void useApiBaseUrl(String baseUrl) {
+        bookStoreClient = new BookStoreClient(baseUrl);
+    }
+
+    /**
+     * Remember a user created through the API, so it is deleted after the scenario.
+     * 
+     * @param user Created user
+     */
+    public void addApiUser(ApiUser user) {
+        apiUsers.add(user);
+    }
+
+    /**
+     * Get users created through the API in this scenario.
+     * 
+     * @return Users in creation order
+     */
+    public List<ApiUser> getApiUsers() {
+        return apiUsers;
+    }
+
+    /**
+     * Delete all users created through the API in this scenario.
+     */
+    public void deleteApiUsers() {
+        if (!apiUsers.isEmpty()) {
+            getBookStoreClient().deleteUsers(apiUsers);
+            apiUsers.clear();
+        }
+    }
+
+    /**
+     * Get the account this scenario leased from the credential pool, leasing one on first use.
+     * 
+     * @return Account no other scenario uses until this one ends
+     */
+    public ApiUser getPooledAccount() {
+        if (pooledAccount == null) {
+            pooledAccount = CredentialPool.forClient(getBookStoreClient()).lease();
+        }
+        return pooledAccount;
+    }
+
+    /**
+     * Return the leased account to the credential pool.
+     */
+    public void releasePooledAccount() {
+        if (pooledAccount != null) {
+            CredentialPool.forClient(getBookStoreClient()).release(pooledAccount);
+            pooledAccount = null;
+        }
+    }
+
     // Page Object Getters with lazy initialization
 
     public HomePage getHomePage() {
@@ -129,6 +209,13 @@ public class TestContext {
         return bookStorePage;
     }
 
+    public ProfilePage getProfilePage() {
+        if (profilePage == null) {
+            profilePage = new ProfilePage();
+        }
+        return profilePage;
+    }
+
     /**
      * Reset all page objects (useful between scenarios).
      */
@@ -138,5 +225,6 @@ public class TestContext {
         practiceFormPage = null;
         loginPage = null;
         bookStorePage = null;
+        profilePage = null;
     }
 }
@@ -0,0 +1,70 @@
+package com.demoqa.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compaction of the run history file.
+ */
+class RunHistoryTest {
+
+    @TempDir
+    Path directory;
+
+    private static HistoryRun run(long runId, int scenarios) {
+        HistoryRun run = new HistoryRun(runId, "commit" + runId);
+        for (int i = 0; i < scenarios; i++) {
+            run.add(HistoryRun.SCENARIO, "Scenario " + i, 1000 + i);
+        }
+        return run;
+    }
+
+    private static List<Long> runIds(RunHistory history) throws IOException {
+        return history.load().stream().map(HistoryRun::getRunId).collect(Collectors.toList());
+    }
+
+    @Test
+    void compactionDropsOldestRuns() throws IOException {
+        Path file = directory.resolve("history.tsv");
+        RunHistory history = new RunHistory(file, 400);
+        for (long runId = 1; runId <= 6; runId++) {
+            history.append(run(runId, 3));
+        }
+
+        List<Long> runIds = runIds(history);
+        assertThat(runIds).isNotEmpty().doesNotContain(1L).endsWith(6L);
+        assertThat(runIds).isSorted();
+        assertThat(Files.size(file)).isLessThanOrEqualTo(400);
+    }
+
+    @Test
+    void compactionKeepsNewestRunAboveCap() throws IOException {
+        Path file = directory.resolve("history.tsv");
+        RunHistory history = new RunHistory(file, 100);
+        history.append(run(1, 2));
+        history.append(run(2, 20));
+
+        assertThat(runIds(history)).containsExactly(2L);
+        assertThat(history.load().get(0).getSamples()).hasSize(20);
+    }
+
+    @Test
+    void appendsAfterCompactionGoToTheCompactedFile() throws IOException {
+        Path file = directory.resolve("history.tsv");
+        RunHistory writer = new RunHistory(file, 300);
+        RunHistory other = new RunHistory(file, 300);
+        for (long runId = 1; runId <= 5; runId++) {
+            (runId % 2 == 0 ? other : writer).append(run(runId, 3));
+        }
+
+        assertThat(runIds(writer)).endsWith(4L, 5L);
+    }
+}
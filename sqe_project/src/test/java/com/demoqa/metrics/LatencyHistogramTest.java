@@ -0,0 +1,142 @@
+package com.demoqa.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bucket math and percentile accuracy of the latency histogram.
+ */
+class LatencyHistogramTest {
+
+    // 64 sub-buckets per power of two: a bucket is at most 1/64 of its lowest value wide
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 64;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static LatencyHistogram record(long[] micros) {
+        LatencyHistogram histogram = new LatencyHistogram("test");
+        for (long value : micros) {
+            histogram.recordNanos(value * 1000);
+        }
+        return histogram;
+    }
+
+    private static long exactPercentile(long[] sorted, double percentile) {
+        int rank = (int) Math.max(1, Math.ceil(percentile / 100.0 * sorted.length));
+        return sorted[rank - 1];
+    }
+
+    private static void assertPercentiles(long[] micros) {
+        LatencyHistogram histogram = record(micros);
+        long[] sorted = micros.clone();
+        Arrays.sort(sorted);
+        for (double percentile : PERCENTILES) {
+            double exact = exactPercentile(sorted, percentile) / 1000.0;
+            assertThat(histogram.getPercentileMillis(percentile))
+                    .as("p%s", percentile)
+                    .isGreaterThanOrEqualTo(exact)
+                    .isLessThanOrEqualTo(exact * (1 + MAX_RELATIVE_ERROR));
+        }
+        assertThat(histogram.getMaxMillis()).isEqualTo(sorted[sorted.length - 1] / 1000.0);
+        assertThat(histogram.getMeanMillis())
+                .isCloseTo(Arrays.stream(micros).average().orElse(0) / 1000.0, within(1e-9));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram("empty");
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getPercentileMillis(99)).isZero();
+        assertThat(histogram.getMeanMillis()).isZero();
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        long[] micros = new long[100];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = i + 1;
+        }
+        LatencyHistogram histogram = record(micros);
+
+        assertThat(histogram.getPercentileMillis(50)).isEqualTo(0.050);
+        assertThat(histogram.getPercentileMillis(99)).isEqualTo(0.099);
+        assertThat(histogram.getPercentileMillis(100)).isEqualTo(0.100);
+    }
+
+    @Test
+    void bucketOfEveryMagnitudeIsWithinRelativeError() {
+        // Around each power of two, where the bucket width doubles
+        for (int bit = 6; bit < 40; bit++) {
+            for (long value : new long[] {(1L << bit) - 1, 1L << bit, (1L << bit) + 1, (3L << bit) / 2}) {
+                // A larger second value keeps the max from clamping the bucket's upper bound
+                LatencyHistogram histogram = record(new long[] {value, 1L << 40});
+                long bucketHigh = Math.round(histogram.getPercentileMillis(50) * 1000);
+
+                assertThat(bucketHigh).as("bucket of %d", value)
+                        .isGreaterThanOrEqualTo(value)
+                        .isLessThanOrEqualTo((long) (value * (1 + MAX_RELATIVE_ERROR)));
+            }
+        }
+    }
+
+    @Test
+    void uniformDistributionPercentiles() {
+        Random random = new Random(42);
+        long[] micros = new long[100_000];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = 1 + random.nextInt(2_000_000);
+        }
+        assertPercentiles(micros);
+    }
+
+    @Test
+    void longTailDistributionPercentiles() {
+        // Log-normal around 20 ms with a tail into seconds, like page loads
+        Random random = new Random(7);
+        long[] micros = new long[100_000];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = Math.max(1, (long) Math.exp(Math.log(20_000) + 1.2 * random.nextGaussian()));
+        }
+        assertPercentiles(micros);
+    }
+
+    @Test
+    void valuesAboveRangeAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram("clamped");
+        histogram.recordNanos(Long.MAX_VALUE);
+        histogram.recordNanos(-5);
+
+        assertThat(histogram.getCount()).isEqualTo(2);
+        assertThat(histogram.getMaxMillis()).isEqualTo(((1L << 40) - 1) / 1000.0);
+        assertThat(histogram.getPercentileMillis(50)).isZero();
+    }
+
+    @Test
+    void recordingDoesNotAllocate() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        LatencyHistogram histogram = new LatencyHistogram("allocation");
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < 10_000; i++) {
+            histogram.recordNanos(i * 1_000L);
+        }
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            histogram.recordNanos(i * 7_919L);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // Only the measurement itself may allocate a little
+        assertThat(allocated).isLessThan(1024);
+    }
+}
@@ -0,0 +1,75 @@
+package com.demoqa.plugins;
+
+import com.demoqa.aspects.StepRecorder;
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.metrics.SuiteCounters;
+import com.demoqa.utils.AsyncResultsWriter;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm;
+import io.qameta.allure.util.PropertiesUtils;
+
+import java.nio.file.Paths;
+
+/**
+ * Allure Cucumber plugin that writes results through {@link AsyncResultsWriter}
+ * when allure.writer.async is enabled. The lifecycle is also installed as the
+ * global Allure lifecycle, so steps and attachments added through {@link Allure}
+ * use the same writer.
+ * Buffered detail steps (see allure.step.level) are resolved when a scenario
+ * finishes, before Allure writes its result. The async writer is flushed and closed
+ * when the test run finishes.
+ */
+public class AllureReportPlugin extends AllureCucumber7Jvm {
+
+    private final AsyncResultsWriter writer;
+
+    public AllureReportPlugin() {
+        this(createWriter());
+    }
+
+    private AllureReportPlugin(AsyncResultsWriter writer) {
+        super(createLifecycle(writer));
+        this.writer = writer;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        // Registered first so it runs before the Allure handler writes the test case
+        publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+        super.setEventPublisher(publisher);
+        if (writer != null) {
+            publisher.registerHandlerFor(TestRunFinished.class, event -> writer.close());
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        StepRecorder.finishScenario(event.getResult().getStatus() == Status.FAILED);
+    }
+
+    private static AsyncResultsWriter createWriter() {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (!config.isAllureAsyncWriterEnabled()) {
+            return null;
+        }
+        String resultsDirectory = PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results");
+        AsyncResultsWriter writer = new AsyncResultsWriter(Paths.get(resultsDirectory),
+                config.getAllureWriterQueueCapacity(), config.getAllureWriterStreamThresholdBytes());
+        SuiteCounters.registerQueue("allure_results", writer::getPendingCount);
+        return writer;
+    }
+
+    private static AllureLifecycle createLifecycle(AsyncResultsWriter writer) {
+        if (writer == null) {
+            return Allure.getLifecycle();
+        }
+        AllureLifecycle lifecycle = new AllureLifecycle(writer);
+        Allure.setLifecycle(lifecycle);
+        return lifecycle;
+    }
+}
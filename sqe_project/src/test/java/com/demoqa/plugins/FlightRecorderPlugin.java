@@ -0,0 +1,48 @@
+package com.demoqa.plugins;
+
+import com.demoqa.jfr.FlightEvents;
+import com.demoqa.jfr.StepEvent;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that emits a JFR event per step when jfr.events.enabled is set.
+ * Concurrent listeners receive step events on the thread running the scenario,
+ * so the running event is kept per thread.
+ */
+public class FlightRecorderPlugin implements ConcurrentEventListener {
+
+    private final ThreadLocal<StepEvent> runningStep = new ThreadLocal<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (FlightEvents.isEnabled()) {
+            publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+            publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        }
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            StepEvent stepEvent = new StepEvent();
+            stepEvent.begin();
+            runningStep.set(stepEvent);
+        }
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        StepEvent stepEvent = runningStep.get();
+        if (stepEvent == null || !(event.getTestStep() instanceof PickleStepTestStep)) {
+            return;
+        }
+        runningStep.remove();
+        PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+        stepEvent.step = step.getStep().getKeyword() + step.getStep().getText();
+        stepEvent.location = step.getUri() + ":" + step.getStep().getLine();
+        stepEvent.status = event.getResult().getStatus().name();
+        stepEvent.commit();
+    }
+}
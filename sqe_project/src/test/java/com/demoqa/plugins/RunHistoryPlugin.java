@@ -0,0 +1,94 @@
+package com.demoqa.plugins;
+
+import com.demoqa.config.ConfigurationManager;
+import com.demoqa.history.HistoryRun;
+import com.demoqa.history.Regression;
+import com.demoqa.history.RegressionAnalyzer;
+import com.demoqa.history.RunHistory;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.qameta.allure.util.PropertiesUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Cucumber plugin that appends the durations of passed scenarios and steps to the
+ * run history when history.enabled is set, then compares the run with previous runs
+ * and reports regressions to the log and the Allure report.
+ * Dry runs are not recorded.
+ */
+public class RunHistoryPlugin implements ConcurrentEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunHistoryPlugin.class);
+
+    private HistoryRun run;
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        if (config.isHistoryEnabled() && !Boolean.getBoolean("cucumber.execution.dry-run")) {
+            publisher.registerHandlerFor(TestRunStarted.class, this::onTestRunStarted);
+            publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+            publisher.registerHandlerFor(TestCaseFinished.class, this::onTestCaseFinished);
+            publisher.registerHandlerFor(TestRunFinished.class, this::onTestRunFinished);
+        }
+    }
+
+    private void onTestRunStarted(TestRunStarted event) {
+        String commit = RunHistory.resolveCommit(ConfigurationManager.getInstance().getHistoryCommit());
+        run = new HistoryRun(event.getInstant().toEpochMilli(), commit);
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep && event.getResult().getStatus() == Status.PASSED) {
+            String pattern = ((PickleStepTestStep) event.getTestStep()).getPattern();
+            record(HistoryRun.STEP, pattern, event.getResult().getDuration().toMillis());
+        }
+    }
+
+    private void onTestCaseFinished(TestCaseFinished event) {
+        if (event.getResult().getStatus() == Status.PASSED) {
+            record(HistoryRun.SCENARIO, event.getTestCase().getName(), event.getResult().getDuration().toMillis());
+        }
+    }
+
+    private void record(String kind, String name, long millis) {
+        synchronized (this) {
+            run.add(kind, name, millis);
+        }
+    }
+
+    private void onTestRunFinished(TestRunFinished event) {
+        if (run == null || run.isEmpty()) {
+            return;
+        }
+        ConfigurationManager config = ConfigurationManager.getInstance();
+        try {
+            RunHistory history = new RunHistory(Paths.get(config.getHistoryFile()), config.getHistoryMaxBytes());
+            synchronized (this) {
+                history.append(run);
+            }
+
+            List<Regression> regressions = RegressionAnalyzer.fromConfig().analyze(history.load());
+            if (regressions.isEmpty()) {
+                logger.info("Run history: no performance regressions on commit {}", run.getCommit());
+                return;
+            }
+            logger.warn("Run history: {} performance regression(s) on commit {}", regressions.size(), run.getCommit());
+            regressions.forEach(regression -> logger.warn("  {}", regression));
+            RegressionAnalyzer.reportToAllure(regressions, Paths.get(PropertiesUtils.loadAllureProperties()
+                    .getProperty("allure.results.directory", "allure-results")), run.getCommit());
+        } catch (Exception e) {
+            logger.error("Failed to update run history: {}", config.getHistoryFile(), e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.demoqa.plugins;
+
+import com.demoqa.logging.ScenarioLog;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepStarted;
+
+/**
+ * Cucumber plugin that tags buffered scenario log events with the running step.
+ * Concurrent listeners receive events on the thread executing the scenario,
+ * which is the thread owning the scenario's log buffer.
+ */
+public class ScenarioLogPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepStarted.class, this::onTestStepStarted);
+    }
+
+    private void onTestStepStarted(TestStepStarted event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            PickleStepTestStep step = (PickleStepTestStep) event.getTestStep();
+            ScenarioLog.step(step.getStep().getKeyword() + step.getStep().getText());
+        } else if (event.getTestStep() instanceof HookTestStep) {
+            ScenarioLog.step("Hook: " + ((HookTestStep) event.getTestStep()).getHookType());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.demoqa.plugins;
+
+import com.demoqa.metrics.MetricsRegistry;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+
+/**
+ * Cucumber plugin that records step durations into the metrics registry.
+ * Steps are keyed by their step definition pattern, so parameterized steps
+ * share one histogram.
+ */
+public class StepMetricsPlugin implements ConcurrentEventListener {
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        if (MetricsRegistry.isEnabled()) {
+            publisher.registerHandlerFor(TestStepFinished.class, this::onTestStepFinished);
+        }
+    }
+
+    private void onTestStepFinished(TestStepFinished event) {
+        if (event.getTestStep() instanceof PickleStepTestStep) {
+            MetricsRegistry.getInstance()
+                    .histogram(MetricsRegistry.Category.STEP, ((PickleStepTestStep) event.getTestStep()).getPattern())
+                    .recordNanos(event.getResult().getDuration().toNanos());
+        }
+    }
+}
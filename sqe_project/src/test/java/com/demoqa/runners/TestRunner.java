@@ -17,7 +17,11 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 @ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty," +
         "html:target/cucumber-reports/cucumber.html," +
         "json:target/cucumber-reports/cucumber.json," +
-        "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm")
+        "com.demoqa.plugins.AllureReportPlugin," +
+        "com.demoqa.plugins.ScenarioLogPlugin," +
+        "com.demoqa.plugins.StepMetricsPlugin," +
+        "com.demoqa.plugins.FlightRecorderPlugin," +
+        "com.demoqa.plugins.RunHistoryPlugin")
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "com.demoqa.stepdefinitions")
 @ConfigurationParameter(key = FILTER_TAGS_PROPERTY_NAME, value = "not @ignore")
 @ConfigurationParameter(key = SNIPPET_TYPE_PROPERTY_NAME, value = "camelcase")
@@ -0,0 +1,147 @@
+package com.demoqa.stepdefinitions;
+
+import com.demoqa.api.ApiUser;
+import com.demoqa.api.BookStoreApiException;
+import com.demoqa.api.BookStoreClient;
+import com.demoqa.context.TestContext;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.demoqa.api.BookStoreClient.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Step definitions that set up BookStore users and collections through the REST API.
+ * Users created here are deleted after the scenario.
+ */
+public class ApiSteps {
+
+    private static final String PASSWORD = "Secret#123";
+
+    private final TestContext testContext;
+
+    public ApiSteps(TestContext testContext) {
+        this.testContext = testContext;
+    }
+
+    @Given("a new API user")
+    public void aNewApiUser() {
+        aNewApiUserWithBooks(List.of());
+    }
+
+    @Given("a new API user with books:")
+    public void aNewApiUserWithBooks(List<String> isbns) {
+        ApiUser user = client().createUsers(List.of(newUserName()), PASSWORD, isbns).get(0);
+        testContext.addApiUser(user);
+        testContext.setScenarioData("apiUser", user);
+    }
+
+    @Given("a pooled API user")
+    public void aPooledApiUser() {
+        testContext.setScenarioData("apiUser", testContext.getPooledAccount());
+    }
+
+    @Given("{int} new API users with books:")
+    public void newApiUsersWithBooks(int count, List<String> isbns) {
+        List<String> userNames = IntStream.range(0, count).mapToObj(i -> newUserName()).collect(Collectors.toList());
+        client().createUsers(userNames, PASSWORD, isbns).forEach(testContext::addApiUser);
+    }
+
+    @Given("I am logged in as the API user")
+    public void iAmLoggedInAsTheApiUser() {
+        ApiUser user = currentUser();
+        testContext.getLoginPage().loginAs(user.getUserName(), user.getPassword());
+        testContext.setScenarioData("username", user.getUserName());
+    }
+
+    @When("I add the book {string} to the API user's collection")
+    public void iAddTheBookToTheApiUsersCollection(String isbn) {
+        await(client().addBooks(currentUser(), List.of(isbn)));
+    }
+
+    @When("I remove the book {string} from the API user's collection")
+    public void iRemoveTheBookFromTheApiUsersCollection(String isbn) {
+        await(client().removeBook(currentUser(), isbn));
+    }
+
+    @When("I remove all books from the API user's collection")
+    public void iRemoveAllBooksFromTheApiUsersCollection() {
+        await(client().clearCollection(currentUser()));
+    }
+
+    @When("I delete the API user")
+    public void iDeleteTheApiUser() {
+        ApiUser user = currentUser();
+        await(client().deleteUser(user));
+        testContext.getApiUsers().remove(user);
+    }
+
+    @Then("adding the book {string} to the API user's collection should fail with code {string}")
+    public void addingTheBookShouldFailWithCode(String isbn, String code) {
+        BookStoreApiException error = catchThrowableOfType(
+                () -> await(client().addBooks(currentUser(), List.of(isbn))), BookStoreApiException.class);
+        assertThat(error)
+            .as("Adding book %s should be rejected", isbn)
+            .isNotNull();
+        assertThat(error.getCode())
+            .as("API error code")
+            .isEqualTo(code);
+    }
+
+    @Then("the API user's collection should contain {int} book(s)")
+    public void theApiUsersCollectionShouldContainBooks(int count) {
+        assertThat(await(client().getCollection(currentUser())))
+            .as("Books in the collection of %s", currentUser())
+            .hasSize(count);
+    }
+
+    @Then("the API user's collection should contain {string}")
+    public void theApiUsersCollectionShouldContain(String isbn) {
+        assertThat(await(client().getCollection(currentUser())))
+            .as("Books in the collection of %s", currentUser())
+            .contains(isbn);
+    }
+
+    @Then("every API user's collection should contain {int} book(s)")
+    public void everyApiUsersCollectionShouldContainBooks(int count) {
+        List<ApiUser> users = testContext.getApiUsers();
+        BookStoreClient client = client();
+        List<List<String>> collections = client.batch(users, client::getCollection);
+        assertThat(collections)
+            .as("Collections of %d users", users.size())
+            .hasSize(users.size())
+            .allSatisfy(collection -> assertThat(collection).hasSize(count));
+    }
+
+    @Then("the API user should no longer exist")
+    public void theApiUserShouldNoLongerExist() {
+        ApiUser user = currentUser();
+        assertThat(await(client().isAuthorized(user.getUserName(), user.getPassword())))
+            .as("User %s should be deleted", user)
+            .isFalse();
+    }
+
+    private BookStoreClient client() {
+        // Looked up per step, as the @stub hook may point the scenario at another address
+        return testContext.getBookStoreClient();
+    }
+
+    private ApiUser currentUser() {
+        ApiUser user = testContext.getScenarioData("apiUser");
+        assertThat(user)
+            .as("No API user was created in this scenario")
+            .isNotNull();
+        return user;
+    }
+
+    private static String newUserName() {
+        return "api_" + UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+    }
+}
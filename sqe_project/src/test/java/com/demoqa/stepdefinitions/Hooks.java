@@ -1,11 +1,30 @@
 package com.demoqa.stepdefinitions;
 
+import com.demoqa.api.CredentialPool;
+import com.demoqa.aspects.StepRecorder;
+import com.demoqa.config.ConfigurationManager;
 import com.demoqa.context.TestContext;
 import com.demoqa.driver.DriverFactory;
-import com.demoqa.utils.ScreenshotUtils;
+import com.demoqa.driver.NetworkBlocker;
+import com.demoqa.driver.ScreencastRecorder;
+import com.demoqa.driver.SessionStore;
+import com.demoqa.driver.TrafficStore;
+import com.demoqa.jfr.FlightEvents;
+import com.demoqa.jfr.ScenarioEvent;
+import com.demoqa.logging.ScenarioLog;
+import com.demoqa.metrics.LocatorProfiler;
+import com.demoqa.metrics.MetricsRegistry;
+import com.demoqa.metrics.OpenMetricsServer;
+import com.demoqa.metrics.SuiteCounters;
+import com.demoqa.pages.BasePage;
+import com.demoqa.stub.DemoQaStubServer;
+import com.demoqa.utils.FailureArtifacts;
+import com.demoqa.utils.FailureBundleWriter;
+import com.demoqa.utils.ScreenshotRetentionManager;
 import io.cucumber.java.After;
-import io.cucumber.java.AfterStep;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
@@ -20,23 +39,85 @@ public class Hooks {
 
     private static final Logger logger = LoggerFactory.getLogger(Hooks.class);
     private final TestContext testContext;
+    private ScenarioEvent scenarioEvent;
 
     public Hooks(TestContext testContext) {
         this.testContext = testContext;
     }
 
+    /**
+     * Before all scenarios - One-time suite setup.
+     */
+    @BeforeAll
+    public static void beforeAll() {
+        logger.info(ConfigurationManager.getInstance().describe());
+        // Local DemoQA stand-in for offline runs, up before the first browser navigates
+        DemoQaStubServer.startIfEnabled();
+        // Create and index the screenshot directory once, start background retention
+        ScreenshotRetentionManager.getInstance();
+        OpenMetricsServer.startIfEnabled();
+    }
+
+    /**
+     * After all scenarios - Flush pending background work.
+     */
+    @AfterAll
+    public static void afterAll() {
+        logger.info("Allure step recording: {}", StepRecorder.getStats());
+        if (MetricsRegistry.isEnabled()) {
+            MetricsRegistry.getInstance().export();
+        }
+        if (ConfigurationManager.getInstance().isLocatorProfilerEnabled()) {
+            LocatorProfiler.getInstance().export();
+        }
+        if (ConfigurationManager.getInstance().isFailureBundleEnabled()) {
+            FailureBundleWriter.getInstance().close();
+        }
+        if (ConfigurationManager.getInstance().isDriverPoolEnabled()) {
+            DriverFactory.quitPooledDrivers();
+        }
+        if (!"off".equalsIgnoreCase(ConfigurationManager.getInstance().getTrafficCacheMode())) {
+            logger.info("Traffic cache: {}", TrafficStore.getInstance().getStats());
+            TrafficStore.getInstance().save();
+        }
+        if (ConfigurationManager.getInstance().isNetworkBlockingEnabled()
+                || !"off".equalsIgnoreCase(ConfigurationManager.getInstance().getResourceLightMode())) {
+            logger.info("Requests blocked by the browser: {}", SuiteCounters.getRequestsBlocked());
+        }
+        if (ConfigurationManager.getInstance().isSessionSnapshotEnabled()) {
+            logger.info("Session snapshots: {}", SessionStore.getInstance().getStats());
+        }
+        if (ConfigurationManager.getInstance().isNavigationReuse()) {
+            logger.info("Page loads avoided by navigation reuse: {}", SuiteCounters.getNavigationsAvoided());
+        }
+        CredentialPool.closeAll();
+        OpenMetricsServer.stop();
+        DemoQaStubServer.stop();
+    }
+
     /**
      * Before each scenario - Initialize browser.
      */
     @Before(order = 0)
     public void setUp(Scenario scenario) {
+        ScenarioLog.begin(scenario.getName());
+        SuiteCounters.scenarioStarted();
+        if (FlightEvents.isEnabled()) {
+            scenarioEvent = new ScenarioEvent();
+            scenarioEvent.begin();
+        }
         logger.info("========================================");
         logger.info("Starting Scenario: {}", scenario.getName());
         logger.info("Tags: {}", scenario.getSourceTagNames());
         logger.info("========================================");
 
-        // Initialize the driver
-        testContext.getDriver();
+        // Initialize the driver; API-only scenarios get one lazily if a step needs it
+        if (!scenario.getSourceTagNames().contains("@api")) {
+            testContext.getDriver();
+        }
+        if (DriverFactory.hasDriver()) {
+            DriverFactory.setResourceLight(NetworkBlocker.isResourceLight(scenario.getSourceTagNames()));
+        }
 
         // Add scenario info to Allure
         Allure.epic("DemoQA Test Automation");
@@ -44,15 +125,11 @@ public class Hooks {
     }
 
     /**
-     * After each step - Capture screenshot on failure.
+     * Before API scenarios tagged @stub - Send their API requests to the local stub.
      */
-    @AfterStep
-    public void afterStep(Scenario scenario) {
-        if (scenario.isFailed() && DriverFactory.hasDriver()) {
-            // Capture screenshot on step failure
-            WebDriver driver = testContext.getDriver();
-            ScreenshotUtils.attachScreenshot(driver, "Step Failed - " + scenario.getName());
-        }
+    @Before(value = "@stub", order = 1)
+    public void useStub() {
+        testContext.useApiBaseUrl(DemoQaStubServer.ensureStarted());
     }
 
     /**
@@ -62,9 +139,20 @@ public class Hooks {
     public void tearDown(Scenario scenario) {
         try {
             if (scenario.isFailed() && DriverFactory.hasDriver()) {
-                // Capture final screenshot on failure
+                // Capture configured failure artifacts (screenshot, element, DOM)
                 WebDriver driver = testContext.getDriver();
-                ScreenshotUtils.captureOnFailure(driver, scenario.getName());
+                if (ConfigurationManager.getInstance().isFailureBundleEnabled()) {
+                    FailureArtifacts.bundleOnFailure(driver, scenario.getName(), scenario.getSourceTagNames());
+                } else {
+                    FailureArtifacts.captureOnFailure(driver, scenario.getName(), scenario.getSourceTagNames());
+                }
+
+                // Attach screencast of the scenario if recording is enabled
+                ScreencastRecorder recorder = DriverFactory.getScreencastRecorder();
+                if (recorder != null) {
+                    recorder.stop();
+                    recorder.attachToAllure("Failure Recording - " + scenario.getName());
+                }
 
                 // Log failure details
                 logger.error("Scenario FAILED: {}", scenario.getName());
@@ -73,15 +161,28 @@ public class Hooks {
             }
 
             // Cleanup test context
+            testContext.releasePooledAccount();
+            testContext.deleteApiUsers();
             testContext.clearScenarioData();
             testContext.closeExcelReader();
             testContext.resetPages();
+            BasePage.clearLastInteractedElement();
 
         } finally {
-            // Quit browser
-            DriverFactory.quitDriver();
-            logger.info("Browser closed");
+            // Quit browser, or keep it for the next scenario when drivers are pooled
+            DriverFactory.releaseDriver(scenario.isFailed());
             logger.info("========================================\n");
+
+            // Emit buffered scenario log on failure (or in verbose mode)
+            ScenarioLog.end(scenario.isFailed());
+            SuiteCounters.scenarioFinished(scenario.isFailed());
+
+            if (scenarioEvent != null) {
+                scenarioEvent.scenario = scenario.getName();
+                scenarioEvent.tags = String.join(",", scenario.getSourceTagNames());
+                scenarioEvent.status = scenario.getStatus().name();
+                scenarioEvent.commit();
+            }
         }
     }
 
@@ -1,5 +1,6 @@
 package com.demoqa.stepdefinitions;
 
+import com.demoqa.api.ApiUser;
 import com.demoqa.context.TestContext;
 import com.demoqa.pages.LoginPage;
 import io.cucumber.java.en.Given;
@@ -33,6 +34,19 @@ public class LoginSteps {
             .isTrue();
     }
     
+    @Given("I am logged in as {string} with password {string}")
+    public void iAmLoggedInAs(String username, String password) {
+        loginPage.loginAs(username, password);
+        testContext.setScenarioData("username", username);
+    }
+    
+    @Given("I am logged in with a pooled account")
+    public void iAmLoggedInWithAPooledAccount() {
+        ApiUser account = testContext.getPooledAccount();
+        loginPage.loginAs(account.getUserName(), account.getPassword());
+        testContext.setScenarioData("username", account.getUserName());
+    }
+    
     @When("I enter username {string}")
     public void iEnterUsername(String username) {
         loginPage.enterUsername(username);
@@ -75,6 +89,13 @@ public class LoginSteps {
             .isEqualTo(expectedUsername);
     }
     
+    @Then("I should see the pooled account's username")
+    public void iShouldSeeThePooledAccountsUsername() {
+        assertThat(testContext.getProfilePage().getUserName())
+            .as("Logged in username should be the pooled account")
+            .isEqualTo(testContext.getPooledAccount().getUserName());
+    }
+    
     @Then("I should see an error message")
     public void iShouldSeeAnErrorMessage() {
         assertThat(loginPage.isErrorDisplayed())
@@ -1,4 +1,4 @@
-@smoke @login
+@smoke @login @no-media
 Feature: Login Functionality
   As a user
   I want to login to the Book Store application
@@ -48,8 +48,15 @@ Feature: Login Functionality
     When I click the New User button
     Then I should see the registration form
 
-# Note: Positive login test requires valid registered credentials
-# To test positive login, first register a user through the UI or API
+  # Leases an account of its own, so it can run in parallel with other login scenarios
+  @positive @pooled
+  Scenario: Login with a pooled account
+    Given I am logged in with a pooled account
+    Then I should see the pooled account's username
+
+# Note: Positive login with fixed credentials requires a registered user
+# To test it, first register a user through the UI or API
+# "Given I am logged in as ... with password ..." logs in once and restores the saved session afterwards
 # @positive @skip
 # Scenario: Login with valid credentials
 #   When I login with username "validuser" and password "ValidPass123!"
@@ -1,4 +1,4 @@
-@smoke @textbox
+@smoke @textbox @no-media
 Feature: Text Box Functionality
   As a user
   I want to fill out the text box form